@@ -1,44 +1,33 @@
 #!/bin/bash
 
 # Cross-Browser Test Execution Script
+# Runs the suite on all browsers concurrently in a single JVM and a single compile.
+# Threads per browser come from execution.browser_threads in test-config.yaml.
 
 echo "╔════════════════════════════════════════════════════════════╗"
 echo "║   Cross-Browser Test Execution                            ║"
 echo "╚════════════════════════════════════════════════════════════╝"
 echo ""
 
-BROWSERS=("chrome" "firefox" "edge")
-FAILED_BROWSERS=()
+BROWSERS="${BROWSERS:-chrome,firefox,edge}"
 
-for browser in "${BROWSERS[@]}"; do
-    echo "═══════════════════════════════════════════════════════════"
-    echo "Running tests on: $browser"
-    echo "═══════════════════════════════════════════════════════════"
-
-    mvn clean test -Dbrowser=$browser -Dheadless=true
-
-    if [ $? -ne 0 ]; then
-        FAILED_BROWSERS+=($browser)
-        echo "❌ Tests failed on $browser"
-    else
-        echo "✅ Tests passed on $browser"
-    fi
+echo "Running tests on: $BROWSERS"
+echo ""
 
-    echo ""
-done
+mvn clean test -Dbrowsers=$BROWSERS -Dheadless=true
+STATUS=$?
 
+echo ""
 echo "╔════════════════════════════════════════════════════════════╗"
 echo "║   Cross-Browser Test Summary                              ║"
 echo "╚════════════════════════════════════════════════════════════╝"
 echo ""
-echo "Total browsers tested: ${#BROWSERS[@]}"
-echo "Failed browsers: ${#FAILED_BROWSERS[@]}"
+echo "Per-browser results: target/browser-summary.json"
 
-if [ ${#FAILED_BROWSERS[@]} -gt 0 ]; then
-    echo "Failed on: ${FAILED_BROWSERS[*]}"
+if [ $STATUS -ne 0 ]; then
+    echo "❌ Tests failed on at least one browser"
     exit 1
 else
     echo "All browsers passed! ✅"
     exit 0
 fi
-
@@ -0,0 +1,96 @@
+package org.example.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the code point counter behind StringCharFrequency with the previous
+ * LinkedHashMap&lt;Character, Integer&gt; implementation across input sizes and alphabets.
+ * Run with -prof gc to see allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringCharFrequencyBenchmark {
+
+    @Param({"64", "4096", "1048576"})
+    private int length;
+
+    /**
+     * ASCII: printable ASCII; LATIN: ASCII and accented Latin letters; CJK: common CJK ideographs;
+     * EMOJI: ASCII mixed with emoji outside the BMP
+     */
+    @Param({"ASCII", "LATIN", "CJK", "EMOJI"})
+    private String alphabet;
+
+    private String input;
+    private final StringBuilder out = new StringBuilder();
+
+    @Setup
+    public void createInput() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.appendCodePoint(nextCodePoint(random));
+        }
+        builder.setLength(length);
+        input = builder.toString();
+    }
+
+    private int nextCodePoint(SplittableRandom random) {
+        switch (alphabet) {
+            case "LATIN":
+                return random.nextBoolean() ? random.nextInt(0x20, 0x7F) : random.nextInt(0xC0, 0x250);
+            case "CJK":
+                return random.nextInt(0x4E00, 0x4E00 + 3000);
+            case "EMOJI":
+                return random.nextInt(4) == 0 ? random.nextInt(0x1F300, 0x1F650) : random.nextInt(0x20, 0x7F);
+            default:
+                return random.nextInt(0x20, 0x7F);
+        }
+    }
+
+    @Benchmark
+    public String previousImplementation() {
+        Map<Character, Integer> freqMap = new LinkedHashMap<>();
+        for (char c : input.toCharArray()) {
+            freqMap.put(c, freqMap.getOrDefault(c, 0) + 1);
+        }
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<Character, Integer> entry : freqMap.entrySet()) {
+            if (result.length() > 0) result.append(", ");
+            result.append(entry.getKey()).append(":").append(entry.getValue());
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String countToString() {
+        return StringCharFrequency.countCharFrequency(input);
+    }
+
+    @Benchmark
+    public StringBuilder countToAppendable() throws IOException {
+        out.setLength(0);
+        StringCharFrequency.countCharFrequency(input, out);
+        return out;
+    }
+}
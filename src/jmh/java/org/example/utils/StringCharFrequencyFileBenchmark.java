@@ -0,0 +1,98 @@
+package org.example.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares counting a UTF-8 file read whole into a String with the memory-mapped parallel file mode
+ * of StringCharFrequency, for several file sizes and fork/join parallelism levels.
+ * Scaling with parallelism needs at least as many cores; run with -prof gc to compare heap use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StringCharFrequencyFileBenchmark {
+
+    @Param({"64", "512"})
+    private int sizeMb;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private Path file;
+    private FileChannel channel;
+    private ForkJoinPool pool;
+    private final StringBuilder out = new StringBuilder();
+
+    @Setup
+    public void createFile() throws IOException {
+        file = Files.createTempFile("char-frequency", ".txt");
+        SplittableRandom random = new SplittableRandom(42);
+        long target = sizeMb * (1L << 20);
+        long written = 0;
+        StringBuilder line = new StringBuilder();
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            while (written < target) {
+                line.setLength(0);
+                // Log-like lines: mostly ASCII with some accented letters, CJK and emoji
+                for (int i = 0; i < 120; i++) {
+                    int kind = random.nextInt(20);
+                    line.appendCodePoint(kind == 0 ? random.nextInt(0xC0, 0x250)
+                            : kind == 1 ? random.nextInt(0x4E00, 0x4E00 + 3000)
+                            : kind == 2 ? random.nextInt(0x1F300, 0x1F650)
+                            : random.nextInt(0x20, 0x7F));
+                }
+                line.append('\n');
+                writer.append(line);
+                written += line.toString().getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        pool.shutdown();
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public StringBuilder readIntoString() throws IOException {
+        out.setLength(0);
+        StringCharFrequency.countCharFrequency(Files.readString(file), out);
+        return out;
+    }
+
+    @Benchmark
+    public StringBuilder mappedParallel() throws IOException {
+        out.setLength(0);
+        CodePointFileCounter.count(channel, CodePointFileCounter.DEFAULT_CHUNK_BYTES, pool).appendTo(out);
+        return out;
+    }
+}
@@ -7,11 +7,20 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Configuration reader for loading test configuration from YAML files
  */
 public class ConfigReader {
+    /**
+     * Value of application.base_url that selects the local page fixtures instead of the live site
+     */
+    public static final String FIXTURE_BASE_URL = "fixture";
+
     private static final Logger logger = LoggerFactory.getLogger(ConfigReader.class);
     private static TestConfig testConfig;
 
@@ -56,6 +65,24 @@ public class ConfigReader {
         return getConfig().getBrowser().getDefaultBrowser();
     }
 
+    /**
+     * Get application base URL from system property or configuration
+     */
+    public static String getBaseUrl() {
+        String baseUrl = System.getProperty("base_url");
+        if (baseUrl != null && !baseUrl.trim().isEmpty()) {
+            return baseUrl.trim();
+        }
+        return getConfig().getApplication().getBaseUrl();
+    }
+
+    /**
+     * Whether tests run against the local page fixtures (-Pfixture) instead of the live site
+     */
+    public static boolean isFixtureRun() {
+        return FIXTURE_BASE_URL.equalsIgnoreCase(getBaseUrl());
+    }
+
     /**
      * Check if tests should run in headless mode
      */
@@ -63,6 +90,134 @@ public class ConfigReader {
         String headless = System.getProperty("headless");
         return headless != null ? Boolean.parseBoolean(headless) : getConfig().getBrowser().isHeadless();
     }
+
+    /**
+     * Check if driver binaries must be resolved from the local cache only
+     */
+    public static boolean isDriverCacheOffline() {
+        String offline = System.getProperty("driver.offline");
+        return offline != null && !offline.trim().isEmpty()
+                ? Boolean.parseBoolean(offline.trim())
+                : getConfig().getDriverCache().isOffline();
+    }
+
+    /**
+     * Get network record/replay mode (off, record, replay) from system property or configuration
+     */
+    public static String getNetworkReplayMode() {
+        String mode = System.getProperty("network.mode");
+        if (mode != null && !mode.trim().isEmpty()) {
+            return mode.trim();
+        }
+        TestConfig.NetworkReplay replay = getConfig().getNetworkReplay();
+        return replay != null && replay.getMode() != null ? replay.getMode() : "off";
+    }
+
+    /**
+     * Get a resource blocking profile that overrides per-class profiles, or null if none is set
+     */
+    public static String getResourceProfileOverride() {
+        String profile = System.getProperty("resource.profile");
+        return profile != null && !profile.trim().isEmpty() ? profile.trim() : null;
+    }
+
+    /**
+     * Get the row filter for streamed data providers (-Ddata.filter=field=regex,field=regex), or null for all rows
+     */
+    public static String getDataFilter() {
+        String filter = System.getProperty("data.filter");
+        return filter != null && !filter.trim().isEmpty() ? filter.trim() : null;
+    }
+
+    /**
+     * Get the shard of streamed data provider rows to run (-Ddata.shard=index/count, 1-based), or null for all rows
+     */
+    public static String getDataShard() {
+        String shard = System.getProperty("data.shard");
+        return shard != null && !shard.trim().isEmpty() ? shard.trim() : null;
+    }
+
+    /**
+     * Get how often a test failing with a retryable failure is retried, from system property or configuration
+     */
+    public static int getMaxRetries() {
+        String retries = System.getProperty("retries");
+        if (retries != null && !retries.trim().isEmpty()) {
+            return Integer.parseInt(retries.trim());
+        }
+        TestConfig.Retry retry = getConfig().getRetry();
+        return retry != null ? retry.getMaxRetries() : 0;
+    }
+
+    /**
+     * Get TestNG parallel mode (none, methods, classes, tests) from system property or configuration
+     */
+    public static String getParallelMode() {
+        String parallel = System.getProperty("parallel");
+        if (parallel != null && !parallel.trim().isEmpty()) {
+            return parallel.trim();
+        }
+        return getConfig().getExecution().getParallel();
+    }
+
+    /**
+     * Get browsers to run the suite on concurrently from system property (-Dbrowsers=chrome,firefox),
+     * or an empty list for a single-browser run
+     */
+    public static List<String> getMatrixBrowsers() {
+        String browsers = System.getProperty("browsers");
+        if (browsers == null || browsers.trim().isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(browsers.split(","))
+                .map(String::trim)
+                .filter(browser -> !browser.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the thread budget of one browser in a cross-browser run, defaulting to the thread count
+     */
+    public static int getBrowserThreadCount(String browser) {
+        Map<String, Integer> browserThreads = getConfig().getExecution().getBrowserThreads();
+        Integer threads = browserThreads != null ? browserThreads.get(browser) : null;
+        return threads != null ? threads : getThreadCount();
+    }
+
+    /**
+     * Get the file holding per-method durations of previous runs, or null when tests should run
+     * in declared order (-Dschedule=declared)
+     */
+    public static String getDurationHistoryFile() {
+        if ("declared".equalsIgnoreCase(System.getProperty("schedule", "").trim())) {
+            return null;
+        }
+        return getConfig().getExecution().getDurationHistory();
+    }
+
+    /**
+     * Get the file holding wait latencies of previous runs, or null when every wait should use the
+     * fixed timeouts (-Dwaits=fixed)
+     */
+    public static String getWaitHistoryFile() {
+        if ("fixed".equalsIgnoreCase(System.getProperty("waits", "").trim())) {
+            return null;
+        }
+        TestConfig.AdaptiveWaits adaptiveWaits = getConfig().getAdaptiveWaits();
+        return adaptiveWaits != null ? adaptiveWaits.getHistoryFile() : null;
+    }
+
+    /**
+     * Get number of test threads from system property or configuration
+     */
+    public static int getThreadCount() {
+        String threads = System.getProperty("threads");
+        if (threads != null && !threads.trim().isEmpty()) {
+            return Integer.parseInt(threads.trim());
+        }
+        return getConfig().getExecution().getThreadCount();
+    }
 }
 
 
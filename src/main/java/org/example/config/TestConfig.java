@@ -2,6 +2,9 @@ package org.example.config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * test configuration
  */
@@ -16,6 +19,33 @@ public class TestConfig {
     @JsonProperty("timeouts")
     private Timeouts timeouts;
 
+    @JsonProperty("driver_pool")
+    private Pool driverPool;
+
+    @JsonProperty("execution")
+    private Execution execution;
+
+    @JsonProperty("driver_cache")
+    private DriverCache driverCache;
+
+    @JsonProperty("network_replay")
+    private NetworkReplay networkReplay;
+
+    @JsonProperty("resource_blocking")
+    private ResourceBlocking resourceBlocking;
+
+    @JsonProperty("screenshots")
+    private Screenshots screenshots;
+
+    @JsonProperty("retry")
+    private Retry retry;
+
+    @JsonProperty("locator_cache")
+    private LocatorCache locatorCache;
+
+    @JsonProperty("adaptive_waits")
+    private AdaptiveWaits adaptiveWaits;
+
     public Application getApplication() {
         return application;
     }
@@ -40,6 +70,78 @@ public class TestConfig {
         this.timeouts = timeouts;
     }
 
+    public Pool getDriverPool() {
+        return driverPool;
+    }
+
+    public void setDriverPool(Pool driverPool) {
+        this.driverPool = driverPool;
+    }
+
+    public Execution getExecution() {
+        return execution;
+    }
+
+    public void setExecution(Execution execution) {
+        this.execution = execution;
+    }
+
+    public DriverCache getDriverCache() {
+        return driverCache;
+    }
+
+    public void setDriverCache(DriverCache driverCache) {
+        this.driverCache = driverCache;
+    }
+
+    public NetworkReplay getNetworkReplay() {
+        return networkReplay;
+    }
+
+    public void setNetworkReplay(NetworkReplay networkReplay) {
+        this.networkReplay = networkReplay;
+    }
+
+    public ResourceBlocking getResourceBlocking() {
+        return resourceBlocking;
+    }
+
+    public void setResourceBlocking(ResourceBlocking resourceBlocking) {
+        this.resourceBlocking = resourceBlocking;
+    }
+
+    public LocatorCache getLocatorCache() {
+        return locatorCache;
+    }
+
+    public void setLocatorCache(LocatorCache locatorCache) {
+        this.locatorCache = locatorCache;
+    }
+
+    public Screenshots getScreenshots() {
+        return screenshots;
+    }
+
+    public void setScreenshots(Screenshots screenshots) {
+        this.screenshots = screenshots;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public AdaptiveWaits getAdaptiveWaits() {
+        return adaptiveWaits;
+    }
+
+    public void setAdaptiveWaits(AdaptiveWaits adaptiveWaits) {
+        this.adaptiveWaits = adaptiveWaits;
+    }
+
     public static class Application {
         @JsonProperty("base_url")
         private String baseUrl;
@@ -155,5 +257,407 @@ public class TestConfig {
             this.scriptTimeout = scriptTimeout;
         }
     }
-}
 
+    public static class Pool {
+        @JsonProperty("enabled")
+        private boolean enabled;
+
+        @JsonProperty("max_size")
+        private int maxSize;
+
+        @JsonProperty("max_age_minutes")
+        private int maxAgeMinutes;
+
+        @JsonProperty("lease_timeout_seconds")
+        private int leaseTimeoutSeconds = 300;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getMaxAgeMinutes() {
+            return maxAgeMinutes;
+        }
+
+        public void setMaxAgeMinutes(int maxAgeMinutes) {
+            this.maxAgeMinutes = maxAgeMinutes;
+        }
+
+        public int getLeaseTimeoutSeconds() {
+            return leaseTimeoutSeconds;
+        }
+
+        public void setLeaseTimeoutSeconds(int leaseTimeoutSeconds) {
+            this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        }
+    }
+
+    public static class Execution {
+        @JsonProperty("parallel")
+        private String parallel;
+
+        @JsonProperty("thread_count")
+        private int threadCount;
+
+        @JsonProperty("browser_threads")
+        private Map<String, Integer> browserThreads;
+
+        @JsonProperty("duration_history")
+        private String durationHistory;
+
+        public String getParallel() {
+            return parallel;
+        }
+
+        public void setParallel(String parallel) {
+            this.parallel = parallel;
+        }
+
+        public int getThreadCount() {
+            return threadCount;
+        }
+
+        public void setThreadCount(int threadCount) {
+            this.threadCount = threadCount;
+        }
+
+        public Map<String, Integer> getBrowserThreads() {
+            return browserThreads;
+        }
+
+        public void setBrowserThreads(Map<String, Integer> browserThreads) {
+            this.browserThreads = browserThreads;
+        }
+
+        public String getDurationHistory() {
+            return durationHistory;
+        }
+
+        public void setDurationHistory(String durationHistory) {
+            this.durationHistory = durationHistory;
+        }
+    }
+
+    public static class DriverCache {
+        @JsonProperty("directory")
+        private String directory;
+
+        @JsonProperty("ttl_hours")
+        private int ttlHours;
+
+        @JsonProperty("offline")
+        private boolean offline;
+
+        @JsonProperty("ci_pinned_versions")
+        private Map<String, String> ciPinnedVersions;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getTtlHours() {
+            return ttlHours;
+        }
+
+        public void setTtlHours(int ttlHours) {
+            this.ttlHours = ttlHours;
+        }
+
+        public boolean isOffline() {
+            return offline;
+        }
+
+        public void setOffline(boolean offline) {
+            this.offline = offline;
+        }
+
+        public Map<String, String> getCiPinnedVersions() {
+            return ciPinnedVersions;
+        }
+
+        public void setCiPinnedVersions(Map<String, String> ciPinnedVersions) {
+            this.ciPinnedVersions = ciPinnedVersions;
+        }
+    }
+
+    public static class NetworkReplay {
+        @JsonProperty("mode")
+        private String mode;
+
+        @JsonProperty("archive_directory")
+        private String archiveDirectory;
+
+        @JsonProperty("max_cache_mb")
+        private int maxCacheMb;
+
+        @JsonProperty("unmatched")
+        private String unmatched;
+
+        public String getMode() {
+            return mode;
+        }
+
+        public void setMode(String mode) {
+            this.mode = mode;
+        }
+
+        public String getArchiveDirectory() {
+            return archiveDirectory;
+        }
+
+        public void setArchiveDirectory(String archiveDirectory) {
+            this.archiveDirectory = archiveDirectory;
+        }
+
+        public int getMaxCacheMb() {
+            return maxCacheMb;
+        }
+
+        public void setMaxCacheMb(int maxCacheMb) {
+            this.maxCacheMb = maxCacheMb;
+        }
+
+        public String getUnmatched() {
+            return unmatched;
+        }
+
+        public void setUnmatched(String unmatched) {
+            this.unmatched = unmatched;
+        }
+    }
+
+    public static class ResourceBlocking {
+        @JsonProperty("default_profile")
+        private String defaultProfile;
+
+        @JsonProperty("profiles")
+        private Map<String, List<String>> profiles;
+
+        public String getDefaultProfile() {
+            return defaultProfile;
+        }
+
+        public void setDefaultProfile(String defaultProfile) {
+            this.defaultProfile = defaultProfile;
+        }
+
+        public Map<String, List<String>> getProfiles() {
+            return profiles;
+        }
+
+        public void setProfiles(Map<String, List<String>> profiles) {
+            this.profiles = profiles;
+        }
+    }
+
+    public static class Screenshots {
+        @JsonProperty("directory")
+        private String directory;
+
+        @JsonProperty("format")
+        private String format;
+
+        @JsonProperty("jpeg_quality")
+        private float jpegQuality;
+
+        @JsonProperty("max_width")
+        private int maxWidth;
+
+        @JsonProperty("max_total_mb")
+        private int maxTotalMb;
+
+        @JsonProperty("max_age_days")
+        private int maxAgeDays;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        public void setFormat(String format) {
+            this.format = format;
+        }
+
+        public float getJpegQuality() {
+            return jpegQuality;
+        }
+
+        public void setJpegQuality(float jpegQuality) {
+            this.jpegQuality = jpegQuality;
+        }
+
+        public int getMaxWidth() {
+            return maxWidth;
+        }
+
+        public void setMaxWidth(int maxWidth) {
+            this.maxWidth = maxWidth;
+        }
+
+        public int getMaxTotalMb() {
+            return maxTotalMb;
+        }
+
+        public void setMaxTotalMb(int maxTotalMb) {
+            this.maxTotalMb = maxTotalMb;
+        }
+
+        public int getMaxAgeDays() {
+            return maxAgeDays;
+        }
+
+        public void setMaxAgeDays(int maxAgeDays) {
+            this.maxAgeDays = maxAgeDays;
+        }
+    }
+
+    public static class Retry {
+        @JsonProperty("max_retries")
+        private int maxRetries;
+
+        @JsonProperty("retryable_failures")
+        private List<String> retryableFailures;
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public List<String> getRetryableFailures() {
+            return retryableFailures;
+        }
+
+        public void setRetryableFailures(List<String> retryableFailures) {
+            this.retryableFailures = retryableFailures;
+        }
+    }
+
+    public static class LocatorCache {
+        @JsonProperty("enabled")
+        private boolean enabled;
+
+        @JsonProperty("metrics")
+        private boolean metrics;
+
+        @JsonProperty("fallback_history")
+        private String fallbackHistory;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isMetrics() {
+            return metrics;
+        }
+
+        public void setMetrics(boolean metrics) {
+            this.metrics = metrics;
+        }
+
+        public String getFallbackHistory() {
+            return fallbackHistory;
+        }
+
+        public void setFallbackHistory(String fallbackHistory) {
+            this.fallbackHistory = fallbackHistory;
+        }
+    }
+
+    public static class AdaptiveWaits {
+        @JsonProperty("history_file")
+        private String historyFile;
+
+        @JsonProperty("percentile")
+        private double percentile;
+
+        @JsonProperty("safety_factor")
+        private double safetyFactor;
+
+        @JsonProperty("min_samples")
+        private int minSamples;
+
+        @JsonProperty("floor_seconds")
+        private int floorSeconds;
+
+        @JsonProperty("ceiling_seconds")
+        private int ceilingSeconds;
+
+        public String getHistoryFile() {
+            return historyFile;
+        }
+
+        public void setHistoryFile(String historyFile) {
+            this.historyFile = historyFile;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public double getSafetyFactor() {
+            return safetyFactor;
+        }
+
+        public void setSafetyFactor(double safetyFactor) {
+            this.safetyFactor = safetyFactor;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public int getFloorSeconds() {
+            return floorSeconds;
+        }
+
+        public void setFloorSeconds(int floorSeconds) {
+            this.floorSeconds = floorSeconds;
+        }
+
+        public int getCeilingSeconds() {
+            return ceilingSeconds;
+        }
+
+        public void setCeilingSeconds(int ceilingSeconds) {
+            this.ceilingSeconds = ceilingSeconds;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.driver;
+
+import org.example.utils.Telemetry;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * Times every WebDriver command issued through a decorated driver and reports it to Telemetry.
+ * Calls that only return a local helper object, such as manage() or navigate(), are not commands.
+ */
+public class CommandTimer implements WebDriverListener {
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts",
+            "window", "logs", "getWrappedDriver", "getWrappedElement", "getCoordinates",
+            "toString", "hashCode", "equals");
+
+    private final ThreadLocal<Deque<Call>> calls = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        calls.get().push(new Call(method, Telemetry.phase(Telemetry.Phase.COMMAND), System.nanoTime()));
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method);
+    }
+
+    private void finish(Object target, Method method) {
+        Deque<Call> pending = calls.get();
+        if (pending.isEmpty() || !pending.peek().method.equals(method)) {
+            return;
+        }
+        Call call = pending.pop();
+        long nanos = System.nanoTime() - call.startNanos;
+        call.span.close();
+        Telemetry.recordCommand(commandName(target, method), nanos);
+    }
+
+    private static String commandName(Object target, Method method) {
+        if (target instanceof WebElement) {
+            return "element." + method.getName();
+        }
+        if (target instanceof WebDriver) {
+            return method.getName();
+        }
+        // Navigation, Options, Timeouts, Window and TargetLocator calls
+        Class<?> declaringClass = method.getDeclaringClass();
+        String owner = declaringClass.getEnclosingClass() != null ? declaringClass.getSimpleName() : "driver";
+        return Character.toLowerCase(owner.charAt(0)) + owner.substring(1) + "." + method.getName();
+    }
+
+    private record Call(Method method, Telemetry.Span span, long startNanos) {
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves browser driver binaries once per JVM and shares the result with other
+ * JVMs (e.g. forked surefire runs) through a file-locked cache directory.
+ * A pre-seeded cache can be used without network access in offline mode.
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+    private static final Map<String, String> resolvedDrivers = new ConcurrentHashMap<>();
+
+    /**
+     * Resolve the driver binary for a browser and export its path for Selenium
+     */
+    public static void resolve(String browser) {
+        String version = getPinnedVersion(browser);
+        String key = browser + "-" + (version != null ? version : "auto");
+        String driverPath = resolvedDrivers.computeIfAbsent(key, k -> resolveShared(browser, version, k));
+        System.setProperty(getDriverSystemProperty(browser), driverPath);
+    }
+
+    private static String resolveShared(String browser, String version, String key) {
+        TestConfig.DriverCache cacheConfig = ConfigReader.getConfig().getDriverCache();
+        Path cacheDir = Paths.get(cacheConfig.getDirectory()).toAbsolutePath();
+        Path entryFile = cacheDir.resolve(key + ".properties");
+        boolean offline = ConfigReader.isDriverCacheOffline();
+
+        try {
+            Files.createDirectories(cacheDir);
+            try (FileChannel channel = FileChannel.open(cacheDir.resolve(key + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    // Pinned versions never go stale; "auto" entries expire so browser upgrades are picked up
+                    Duration ttl = version != null || offline ? null : Duration.ofHours(cacheConfig.getTtlHours());
+                    String cachedPath = readEntry(entryFile, ttl);
+                    if (cachedPath != null) {
+                        logger.info("Using cached {} driver: {}", key, cachedPath);
+                        return cachedPath;
+                    }
+                    if (offline) {
+                        throw new IllegalStateException("No cached " + key + " driver in " + cacheDir
+                                + " and driver cache is offline");
+                    }
+
+                    WebDriverManager manager = getManager(browser)
+                            .cachePath(cacheDir.resolve("binaries").toString())
+                            .avoidExport();
+                    if (version != null) {
+                        manager.driverVersion(version);
+                    }
+                    manager.setup();
+                    String driverPath = manager.getDownloadedDriverPath();
+                    writeEntry(entryFile, driverPath, manager.getDownloadedDriverVersion());
+                    logger.info("Resolved {} driver {}: {}", key, manager.getDownloadedDriverVersion(), driverPath);
+                    return driverPath;
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to access driver cache in " + cacheDir, e);
+        }
+    }
+
+    private static String readEntry(Path entryFile, Duration ttl) throws IOException {
+        if (!Files.exists(entryFile)) {
+            return null;
+        }
+        Properties entry = new Properties();
+        try (InputStream in = Files.newInputStream(entryFile)) {
+            entry.load(in);
+        }
+        String driverPath = entry.getProperty("driver_path");
+        if (driverPath == null || !Files.isExecutable(Paths.get(driverPath))) {
+            return null;
+        }
+        Instant resolvedAt = Instant.ofEpochMilli(Long.parseLong(entry.getProperty("resolved_at", "0")));
+        if (ttl != null && resolvedAt.plus(ttl).isBefore(Instant.now())) {
+            return null;
+        }
+        return driverPath;
+    }
+
+    private static void writeEntry(Path entryFile, String driverPath, String driverVersion) throws IOException {
+        Properties entry = new Properties();
+        entry.setProperty("driver_path", driverPath);
+        entry.setProperty("driver_version", driverVersion);
+        entry.setProperty("resolved_at", String.valueOf(System.currentTimeMillis()));
+        Path tmpFile = entryFile.resolveSibling(entryFile.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmpFile)) {
+            entry.store(out, "Resolved browser driver");
+        }
+        Files.move(tmpFile, entryFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String getPinnedVersion(String browser) {
+        // Pin driver versions in CI, auto-detect locally
+        String ci = System.getenv("CI");
+        Map<String, String> pinned = ConfigReader.getConfig().getDriverCache().getCiPinnedVersions();
+        if (ci != null && ci.equalsIgnoreCase("true") && pinned != null) {
+            return pinned.get(browser);
+        }
+        return null;
+    }
+
+    private static WebDriverManager getManager(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                throw new IllegalArgumentException("No driver binary to resolve for browser: " + browser);
+        }
+    }
+
+    private static String getDriverSystemProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY;
+            case "firefox":
+                return GeckoDriverService.GECKO_DRIVER_EXE_PROPERTY;
+            case "edge":
+                return EdgeDriverService.EDGE_DRIVER_EXE_PROPERTY;
+            default:
+                throw new IllegalArgumentException("No driver binary to resolve for browser: " + browser);
+        }
+    }
+}
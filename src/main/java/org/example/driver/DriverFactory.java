@@ -1,8 +1,11 @@
 package org.example.driver;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.example.config.ConfigReader;
 import org.example.config.TestConfig;
+import org.example.pages.LocatorRegistry;
+import org.example.pages.PageMetrics;
+import org.example.utils.Telemetry;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -11,6 +14,7 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,34 +26,61 @@ import java.time.Duration;
 public class DriverFactory {
     private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final DriverPool pool = createPool();
+    private static final NetworkReplay networkReplay = NetworkReplay.fromConfig();
 
     public static WebDriver initializeDriver(String browser) {
         logger.info("Initializing {} driver", browser);
 
-        WebDriver webDriver = createDriver(browser.toLowerCase(), ConfigReader.isHeadless());
-        configureDriver(webDriver);
+        String browserName = browser.toLowerCase();
+        boolean headless = ConfigReader.isHeadless();
+        WebDriver webDriver = Telemetry.time(Telemetry.Phase.DRIVER_STARTUP, () -> pool != null
+                ? pool.lease(browserName + (headless ? "-headless" : ""), () -> newDriver(browserName, headless))
+                : newDriver(browserName, headless));
         driver.set(webDriver);
 
         logger.info("{} driver initialized successfully", browser);
         return webDriver;
     }
 
+    private static DriverPool createPool() {
+        TestConfig.Pool poolConfig = ConfigReader.getConfig().getDriverPool();
+        if (poolConfig == null || !poolConfig.isEnabled()) {
+            return null;
+        }
+        DriverPool driverPool = new DriverPool(poolConfig.getMaxSize(),
+                Duration.ofMinutes(poolConfig.getMaxAgeMinutes()),
+                Duration.ofSeconds(poolConfig.getLeaseTimeoutSeconds()));
+        Runtime.getRuntime().addShutdownHook(new Thread(driverPool::shutdown, "driver-pool-shutdown"));
+        return driverPool;
+    }
+
+    private static WebDriver newDriver(String browser, boolean headless) {
+        WebDriver webDriver = createDriver(browser, headless);
+        configureDriver(webDriver);
+        PageMetrics.install(webDriver);
+        if (networkReplay != null) {
+            networkReplay.attach(webDriver);
+        }
+        // Decorate last: CDP setup above is not a test command. The decorated driver times every
+        // command, including those on returned elements, and keeps the original's interfaces (HasCdp, HasDevTools)
+        LocatorRegistry locatorRegistry = LocatorRegistry.create();
+        WebDriver decorated = new EventFiringDecorator<>(new CommandTimer(), locatorRegistry.navigationListener())
+                .decorate(webDriver);
+        LocatorRegistry.register(decorated, locatorRegistry);
+        return decorated;
+    }
+
     private static WebDriver createDriver(String browser, boolean headless) {
         switch (browser) {
             case "chrome":
-                // Pin ChromeDriver version in CI, auto-detect locally
-                String ci = System.getenv("CI");
-                if (ci != null && ci.equalsIgnoreCase("true")) {
-                    WebDriverManager.chromedriver().driverVersion("143.0.7499.109").clearDriverCache().setup();
-                } else {
-                    WebDriverManager.chromedriver().setup();
-                }
+                DriverBinaryResolver.resolve(browser);
                 return new ChromeDriver(getChromeOptions(headless));
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
+                DriverBinaryResolver.resolve(browser);
                 return new FirefoxDriver(getFirefoxOptions(headless));
             case "edge":
-                WebDriverManager.edgedriver().setup();
+                DriverBinaryResolver.resolve(browser);
                 return new EdgeDriver(getEdgeOptions(headless));
             case "safari":
                 return new SafariDriver();
@@ -87,6 +118,9 @@ public class DriverFactory {
                 .implicitlyWait(Duration.ofSeconds(config.getTimeouts().getImplicitWait()))
                 .pageLoadTimeout(Duration.ofSeconds(config.getTimeouts().getPageLoad()))
                 .scriptTimeout(Duration.ofSeconds(config.getTimeouts().getScriptTimeout()));
+        String[] windowSize = config.getBrowser().getWindowSize().split(",");
+        webDriver.manage().window().setSize(new Dimension(
+                Integer.parseInt(windowSize[0].trim()), Integer.parseInt(windowSize[1].trim())));
 //        webDriver.manage().window().maximize();
     }
 
@@ -94,11 +128,57 @@ public class DriverFactory {
         return driver.get();
     }
 
+    /**
+     * Release the current thread's driver back to the pool, or quit it when pooling is disabled
+     */
+    public static void releaseDriver() {
+        releaseDriver(driver.get());
+    }
+
+    /**
+     * Release a driver that may be bound to another thread, e.g. a page fixture kept by a worker thread.
+     * That thread must call {@link #detachDriver()} instead of releasing it again.
+     */
+    public static void releaseDriver(WebDriver webDriver) {
+        if (webDriver != null) {
+            if (driver.get() == webDriver) {
+                driver.remove();
+            }
+            if (pool != null) {
+                logger.info("Releasing driver to pool");
+                pool.release(webDriver);
+            } else {
+                logger.info("Quitting driver");
+                quit(webDriver);
+            }
+        }
+    }
+
+    /**
+     * Unbind the current thread's driver without releasing it, after another thread has released it
+     */
+    public static void detachDriver() {
+        driver.remove();
+    }
+
     public static void quitDriver() {
-        if (driver.get() != null) {
+        WebDriver webDriver = driver.get();
+        if (webDriver != null) {
             logger.info("Quitting driver");
-            driver.get().quit();
             driver.remove();
+            if (pool != null) {
+                pool.discard(webDriver);
+            } else {
+                quit(webDriver);
+            }
+        }
+    }
+
+    private static void quit(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } finally {
+            LocatorRegistry.unregister(webDriver);
         }
     }
 }
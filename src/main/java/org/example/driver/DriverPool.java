@@ -0,0 +1,258 @@
+package org.example.driver;
+
+import org.example.pages.LocatorRegistry;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of warm WebDriver sessions reused across test methods.
+ * A session is leased to one thread at a time, reset when it is released
+ * and validated again before it is handed out to the next test.
+ * At most maxSize sessions are open at once, leased or idle: a lease beyond that quits an idle
+ * session of another browser, or waits up to the lease timeout for one to be released.
+ */
+public class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private final int maxSize;
+    private final Duration maxAge;
+    private final Duration leaseTimeout;
+    private final Map<String, Deque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private final AtomicInteger liveSessions = new AtomicInteger();
+
+    public DriverPool(int maxSize, Duration maxAge, Duration leaseTimeout) {
+        this.maxSize = Math.max(1, maxSize);
+        this.maxAge = maxAge;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * Lease a healthy session for the given key, creating one when no idle session is available
+     * and the pool has room for it
+     */
+    public WebDriver lease(String key, Supplier<WebDriver> factory) {
+        Deque<PooledSession> idle = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        long deadline = System.nanoTime() + leaseTimeout.toNanos();
+        while (true) {
+            PooledSession session = idle.pollFirst();
+            if (session != null) {
+                if (isExpired(session)) {
+                    destroy(session, "exceeded max age");
+                } else if (!isHealthy(session)) {
+                    destroy(session, "failed validation");
+                } else {
+                    session.uses++;
+                    leasedSessions.put(session.driver, session);
+                    logger.info("Reusing pooled {} session (use #{})", key, session.uses);
+                    return session.driver;
+                }
+                continue;
+            }
+            if (reserveSlot(idle, deadline)) {
+                return create(key, factory);
+            }
+        }
+    }
+
+    /**
+     * Count a new session against the pool size. Returns false when an idle session for the
+     * key became available instead; throws when no room was made before the deadline.
+     */
+    private boolean reserveSlot(Deque<PooledSession> idle, long deadline) {
+        PooledSession victim = null;
+        synchronized (this) {
+            while (liveSessions.get() >= maxSize) {
+                if (!idle.isEmpty()) {
+                    return false;
+                }
+                victim = pollAnyIdle();
+                if (victim != null) {
+                    break;
+                }
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    throw new IllegalStateException(String.format(
+                            "No pooled session became available within %d s; all %d sessions are leased (driver_pool.max_size)",
+                            leaseTimeout.toSeconds(), maxSize));
+                }
+                try {
+                    wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a pooled session", e);
+                }
+            }
+            liveSessions.incrementAndGet();
+        }
+        if (victim != null) {
+            // The slot of the idle session is handed over to the new one
+            quitSession(victim, "making room for another browser");
+        }
+        return true;
+    }
+
+    private PooledSession pollAnyIdle() {
+        for (Deque<PooledSession> sessions : idleSessions.values()) {
+            PooledSession session = sessions.pollLast();
+            if (session != null) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private WebDriver create(String key, Supplier<WebDriver> factory) {
+        WebDriver driver;
+        try {
+            driver = factory.get();
+        } catch (RuntimeException e) {
+            freeSlot();
+            throw e;
+        }
+        PooledSession session = new PooledSession(key, driver);
+        leasedSessions.put(session.driver, session);
+        logger.info("Created new pooled {} session ({} live)", key, liveSessions.get());
+        return session.driver;
+    }
+
+    private synchronized void freeSlot() {
+        liveSessions.decrementAndGet();
+        notifyAll();
+    }
+
+    private synchronized void sessionReturned() {
+        notifyAll();
+    }
+
+    /**
+     * Return a leased session to the pool, quitting it if it cannot be reused
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            logger.warn("Releasing a driver that is not owned by the pool, quitting it");
+            quit(driver);
+            return;
+        }
+        if (isExpired(session)) {
+            destroy(session, "exceeded max age");
+        } else if (!reset(session)) {
+            destroy(session, "failed reset");
+        } else {
+            idleSessions.get(session.key).offerFirst(session);
+            sessionReturned();
+            logger.debug("Returned {} session to pool", session.key);
+        }
+    }
+
+    /**
+     * Quit a leased session without returning it to the pool
+     */
+    public void discard(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session != null) {
+            destroy(session, "discarded by caller");
+        } else {
+            quit(driver);
+        }
+    }
+
+    /**
+     * Quit every session owned by the pool, idle or leased
+     */
+    public void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>(leasedSessions.values());
+        leasedSessions.clear();
+        idleSessions.values().forEach(idle -> {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                sessions.add(session);
+            }
+        });
+        sessions.forEach(session -> destroy(session, "pool shutdown"));
+    }
+
+    private boolean isExpired(PooledSession session) {
+        return Duration.between(session.createdAt, Instant.now()).compareTo(maxAge) > 0;
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            logger.debug("Pooled {} session is unhealthy: {}", session.key, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean reset(PooledSession session) {
+        WebDriver driver = session.driver;
+        try {
+            String mainWindow = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(mainWindow)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(mainWindow);
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            logger.debug("Failed to reset pooled {} session: {}", session.key, e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledSession session, String reason) {
+        freeSlot();
+        quitSession(session, reason);
+    }
+
+    private void quitSession(PooledSession session, String reason) {
+        logger.info("Quitting pooled {} session: {}", session.key, reason);
+        try {
+            quit(session.driver);
+        } catch (WebDriverException e) {
+            logger.debug("Error quitting pooled {} session: {}", session.key, e.getMessage());
+        }
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } finally {
+            LocatorRegistry.unregister(driver);
+        }
+    }
+
+    private static class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private final Instant createdAt = Instant.now();
+        private int uses = 1;
+
+        private PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Record-and-replay network layer for Chromium sessions.
+ * In record mode every response seen through DevTools interception is written to an
+ * on-disk archive; in replay mode responses are served from that archive through an
+ * LRU-bounded memory cache, so page loads do not depend on the live network.
+ */
+public class NetworkReplay {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkReplay.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    // The archived body is already decoded, so transfer headers no longer apply
+    private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    private final Mode mode;
+    private final Path archiveDir;
+    private final boolean blockUnmatched;
+    private final ResponseCache cache;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+
+    public NetworkReplay(Mode mode, Path archiveDir, long maxCacheBytes, boolean blockUnmatched) {
+        this.mode = mode;
+        this.archiveDir = archiveDir;
+        this.blockUnmatched = blockUnmatched;
+        this.cache = new ResponseCache(maxCacheBytes);
+    }
+
+    /**
+     * Create the network layer from configuration, or return null when it is switched off
+     */
+    public static NetworkReplay fromConfig() {
+        Mode mode = Mode.valueOf(ConfigReader.getNetworkReplayMode().toUpperCase(Locale.ROOT));
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        TestConfig.NetworkReplay config = ConfigReader.getConfig().getNetworkReplay();
+        NetworkReplay replay = new NetworkReplay(mode,
+                Paths.get(config.getArchiveDirectory()).toAbsolutePath(),
+                config.getMaxCacheMb() * 1024L * 1024L,
+                !"passthrough".equalsIgnoreCase(config.getUnmatched()));
+        Runtime.getRuntime().addShutdownHook(new Thread(replay::logSummary, "network-replay-summary"));
+        logger.info("Network {} enabled with archive {}", mode.name().toLowerCase(Locale.ROOT), replay.archiveDir);
+        return replay;
+    }
+
+    /**
+     * Route the session's network traffic through the recorder or the replay cache.
+     * The interception lives as long as the session, including while it is pooled.
+     */
+    public void attach(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            logger.warn("Network {} needs DevTools support, {} traffic goes to the live network",
+                    mode.name().toLowerCase(Locale.ROOT), driver.getClass().getSimpleName());
+            return;
+        }
+        Filter filter = next -> request -> mode == Mode.RECORD ? record(next, request) : replay(next, request);
+        new NetworkInterceptor(driver, filter);
+    }
+
+    private HttpResponse record(HttpHandler next, HttpRequest request) {
+        HttpResponse response = next.execute(request);
+        byte[] body = Contents.bytes(response.getContent());
+        response.setContent(Contents.bytes(body));
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                List<String> values = new ArrayList<>();
+                response.getHeaders(name).forEach(values::add);
+                headers.put(name, values);
+            }
+        }
+        String key = requestKey(request);
+        ArchivedResponse archived = new ArchivedResponse(key, response.getStatus(), headers, body);
+        try {
+            Files.createDirectories(archiveDir);
+            Path tmpFile = Files.createTempFile(archiveDir, "entry", ".tmp");
+            mapper.writeValue(tmpFile.toFile(), archived);
+            Files.move(tmpFile, archiveFile(key), StandardCopyOption.REPLACE_EXISTING);
+            recorded.increment();
+        } catch (IOException e) {
+            logger.warn("Failed to record {}: {}", key, e.getMessage());
+        }
+        return response;
+    }
+
+    private HttpResponse replay(HttpHandler next, HttpRequest request) {
+        String key = requestKey(request);
+        ArchivedResponse archived = cache.get(key);
+        if (archived == null) {
+            archived = load(key);
+            if (archived != null) {
+                cache.put(key, archived);
+            }
+        }
+        if (archived != null) {
+            replayed.increment();
+            HttpResponse response = new HttpResponse().setStatus(archived.status());
+            archived.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            response.setContent(Contents.bytes(archived.body()));
+            return response;
+        }
+
+        unmatched.increment();
+        if (blockUnmatched) {
+            logger.debug("Blocking unrecorded request {}", key);
+            return new HttpResponse().setStatus(404);
+        }
+        logger.debug("Passing through unrecorded request {}", key);
+        return next.execute(request);
+    }
+
+    private ArchivedResponse load(String key) {
+        Path file = archiveFile(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return mapper.readValue(file.toFile(), ArchivedResponse.class);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable archive entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path archiveFile(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return archiveDir.resolve(HexFormat.of().formatHex(digest) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String requestKey(HttpRequest request) {
+        String uri = request.getUri();
+        int fragment = uri.indexOf('#');
+        return request.getMethod() + " " + (fragment >= 0 ? uri.substring(0, fragment) : uri);
+    }
+
+    private void logSummary() {
+        logger.info("Network {} summary - recorded: {}, replayed: {}, unmatched: {}, cached: {} KB",
+                mode.name().toLowerCase(Locale.ROOT), recorded.sum(), replayed.sum(), unmatched.sum(),
+                cache.sizeBytes() / 1024);
+    }
+
+    /**
+     * A recorded response, keyed by request method and URL
+     */
+    public record ArchivedResponse(String request, int status, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    /**
+     * Least-recently-used response cache bounded by total body size
+     */
+    private static class ResponseCache {
+        private final long maxBytes;
+        private final LinkedHashMap<String, ArchivedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private long sizeBytes;
+
+        private ResponseCache(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private synchronized ArchivedResponse get(String key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(String key, ArchivedResponse response) {
+            if (response.body().length > maxBytes) {
+                return;
+            }
+            ArchivedResponse previous = entries.put(key, response);
+            sizeBytes += response.body().length - (previous != null ? previous.body().length : 0);
+            Iterator<ArchivedResponse> eldest = entries.values().iterator();
+            while (sizeBytes > maxBytes && eldest.hasNext()) {
+                sizeBytes -= eldest.next().body().length;
+                eldest.remove();
+            }
+        }
+
+        private synchronized long sizeBytes() {
+            return sizeBytes;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.driver;
+
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Applies named resource blocking profiles from test-config.yaml to a session,
+ * so functional runs skip media, fonts and trackers they never assert on.
+ * Blocking uses the DevTools Network.setBlockedURLs command and is switched per test,
+ * because pooled sessions move between classes with different profiles.
+ */
+public class ResourceBlocker {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceBlocker.class);
+
+    /**
+     * Profile that blocks nothing
+     */
+    public static final String FULL_PROFILE = "full";
+
+    private static final Map<WebDriver, String> activeProfiles = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Resolve the profile to use: a run-wide override wins over the requested profile,
+     * which wins over the configured default
+     */
+    public static String resolveProfile(String requestedProfile) {
+        String override = ConfigReader.getResourceProfileOverride();
+        if (override != null) {
+            return override;
+        }
+        if (requestedProfile != null && !requestedProfile.isEmpty()) {
+            return requestedProfile;
+        }
+        TestConfig.ResourceBlocking config = ConfigReader.getConfig().getResourceBlocking();
+        return config != null && config.getDefaultProfile() != null ? config.getDefaultProfile() : FULL_PROFILE;
+    }
+
+    /**
+     * Block the profile's URL patterns in the session, replacing any previously applied profile
+     */
+    public static void apply(WebDriver driver, String profile) {
+        if (profile.equals(getActiveProfile(driver))) {
+            return;
+        }
+        List<String> patterns = getPatterns(profile);
+        if (!(driver instanceof HasCdp)) {
+            if (!patterns.isEmpty()) {
+                logger.warn("Resource profile '{}' needs DevTools support, {} loads all resources",
+                        profile, driver.getClass().getSimpleName());
+            }
+            activeProfiles.put(driver, FULL_PROFILE);
+            return;
+        }
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+            activeProfiles.put(driver, profile);
+            logger.info("Applied resource profile '{}' ({} blocked patterns)", profile, patterns.size());
+        } catch (WebDriverException e) {
+            activeProfiles.remove(driver);
+            logger.warn("Failed to apply resource profile '{}': {}", profile, e.getMessage());
+        }
+    }
+
+    /**
+     * Profile currently in effect for the session; full when none was applied
+     */
+    public static String getActiveProfile(WebDriver driver) {
+        return activeProfiles.getOrDefault(driver, FULL_PROFILE);
+    }
+
+    private static List<String> getPatterns(String profile) {
+        TestConfig.ResourceBlocking config = ConfigReader.getConfig().getResourceBlocking();
+        Map<String, List<String>> profiles = config != null ? config.getProfiles() : null;
+        if (profiles == null || !profiles.containsKey(profile)) {
+            if (FULL_PROFILE.equals(profile)) {
+                return List.of();
+            }
+            throw new IllegalArgumentException("Unknown resource blocking profile: " + profile);
+        }
+        List<String> patterns = profiles.get(profile);
+        return patterns != null ? patterns : List.of();
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.listeners;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Historical test method durations per browser, used to schedule long tests first.
+ * Durations of the current run are summed per method (all data-provider invocations of a method
+ * run on one thread) and folded into a moving average when the history is saved.
+ */
+public class DurationHistory {
+    private static final Logger logger = LoggerFactory.getLogger(DurationHistory.class);
+    // Weight of the latest run in the moving average
+    private static final double SMOOTHING = 0.3;
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static volatile DurationHistory instance;
+
+    private final Path file;
+    private final Map<String, Map<String, MethodDuration>> history;
+    private final Map<String, LongAdder> currentRun = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path file, Map<String, Map<String, MethodDuration>> history) {
+        this.file = file;
+        this.history = history;
+    }
+
+    /**
+     * Get the history configured in test-config.yaml, or null when scheduling by history is disabled
+     */
+    public static DurationHistory getInstance() {
+        String historyFile = ConfigReader.getDurationHistoryFile();
+        if (historyFile == null || historyFile.trim().isEmpty()) {
+            return null;
+        }
+        if (instance == null) {
+            synchronized (DurationHistory.class) {
+                if (instance == null) {
+                    instance = load(Paths.get(historyFile.trim()));
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static DurationHistory load(Path file) {
+        Map<String, Map<String, MethodDuration>> history = new TreeMap<>();
+        if (Files.exists(file)) {
+            try {
+                history.putAll(mapper.readValue(file.toFile(),
+                        new TypeReference<Map<String, Map<String, MethodDuration>>>() {
+                        }));
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable duration history {}: {}", file, e.getMessage());
+            }
+        }
+        return new DurationHistory(file, history);
+    }
+
+    /**
+     * Get the average duration of a test method on a browser, if it ran before
+     */
+    public OptionalLong getMillis(String browser, String method) {
+        Map<String, MethodDuration> browserHistory = history.get(browser);
+        MethodDuration duration = browserHistory != null ? browserHistory.get(method) : null;
+        return duration != null ? OptionalLong.of(duration.millis()) : OptionalLong.empty();
+    }
+
+    /**
+     * Get the summed average duration of the methods of a test class on a browser, if any of them ran before
+     */
+    public OptionalLong getClassMillis(String browser, String className) {
+        Map<String, MethodDuration> browserHistory = history.get(browser);
+        if (browserHistory == null) {
+            return OptionalLong.empty();
+        }
+        String prefix = className + ".";
+        long total = 0;
+        boolean found = false;
+        for (Map.Entry<String, MethodDuration> entry : browserHistory.entrySet()) {
+            if (entry.getKey().startsWith(prefix) && entry.getKey().indexOf('.', prefix.length()) < 0) {
+                total += entry.getValue().millis();
+                found = true;
+            }
+        }
+        return found ? OptionalLong.of(total) : OptionalLong.empty();
+    }
+
+    /**
+     * Add the duration of one test invocation to the current run
+     */
+    public void record(String browser, String method, long millis) {
+        currentRun.computeIfAbsent(browser + "|" + method, k -> new LongAdder()).add(millis);
+    }
+
+    /**
+     * Fold the current run into the history and write it to disk
+     */
+    public synchronized void save() {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        currentRun.forEach((key, millis) -> {
+            int separator = key.indexOf('|');
+            Map<String, MethodDuration> browserHistory = history.computeIfAbsent(key.substring(0, separator),
+                    k -> new TreeMap<>());
+            String method = key.substring(separator + 1);
+            MethodDuration previous = browserHistory.get(method);
+            long latest = millis.sum();
+            browserHistory.put(method, previous == null
+                    ? new MethodDuration(latest, 1)
+                    : new MethodDuration(Math.round(SMOOTHING * latest + (1 - SMOOTHING) * previous.millis()),
+                    previous.samples() + 1));
+        });
+        currentRun.clear();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmpFile = Files.createTempFile(file.toAbsolutePath().getParent(), "test-durations", ".tmp");
+            mapper.writeValue(tmpFile.toFile(), history);
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Test durations saved to {}", file);
+        } catch (IOException e) {
+            logger.warn("Failed to save test durations: {}", e.getMessage());
+        }
+    }
+
+    public record MethodDuration(long millis, int samples) {
+    }
+}
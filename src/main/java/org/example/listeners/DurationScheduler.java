@@ -0,0 +1,106 @@
+package org.example.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Orders the methods of a parallel test longest-first by their historical duration, so the
+ * thread pool packs short tests around the long ones instead of finishing on a straggler.
+ * With parallel=classes whole classes are ordered and keep their declared method order.
+ * Without any history the declared priority order is kept.
+ */
+public class DurationScheduler implements IMethodInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(DurationScheduler.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        DurationHistory history = DurationHistory.getInstance();
+        XmlTest test = context.getCurrentXmlTest();
+        XmlSuite.ParallelMode parallelMode = test.getParallel();
+        if (history == null || methods.size() < 2 || parallelMode == null || !parallelMode.isParallel()
+                || parallelMode == XmlSuite.ParallelMode.TESTS) {
+            return methods;
+        }
+        String browser = TestListener.getBrowser(context);
+        boolean byClass = parallelMode != XmlSuite.ParallelMode.METHODS;
+
+        // Jobs are what one thread runs start to finish: a method, or all methods of a class
+        Map<String, List<IMethodInstance>> jobs = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            String job = byClass ? method.getMethod().getRealClass().getName() : method.getMethod().getQualifiedName();
+            jobs.computeIfAbsent(job, k -> new ArrayList<>()).add(method);
+        }
+        Map<String, Long> estimates = estimate(jobs.keySet(), history, browser, byClass);
+        if (estimates.isEmpty()) {
+            logger.info("No duration history for '{}', running tests in declared order", test.getName());
+            return methods;
+        }
+
+        // Stable sort: jobs with equal estimates keep their declared order
+        List<String> order = jobs.keySet().stream()
+                .sorted(Comparator.comparingLong((String job) -> estimates.get(job)).reversed())
+                .collect(Collectors.toList());
+        int threads = Math.max(1, test.getThreadCount());
+        logger.info("Scheduled {} {} of '{}' longest-first on {} threads: predicted wall time {} ms (declared order: {} ms)",
+                order.size(), byClass ? "classes" : "methods", test.getName(), threads,
+                predictWallMillis(order, estimates, threads),
+                predictWallMillis(new ArrayList<>(jobs.keySet()), estimates, threads));
+        return order.stream().flatMap(job -> jobs.get(job).stream()).collect(Collectors.toList());
+    }
+
+    /**
+     * Estimate each job from history; jobs that never ran are assumed to take the average known duration.
+     * Returns an empty map when no job has history.
+     */
+    private static Map<String, Long> estimate(Iterable<String> jobs, DurationHistory history, String browser,
+                                              boolean byClass) {
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        long knownTotal = 0;
+        int known = 0;
+        for (String job : jobs) {
+            OptionalLong millis = byClass ? history.getClassMillis(browser, job) : history.getMillis(browser, job);
+            if (millis.isPresent()) {
+                knownTotal += millis.getAsLong();
+                known++;
+            }
+            estimates.put(job, millis.isPresent() ? millis.getAsLong() : -1L);
+        }
+        if (known == 0) {
+            return Map.of();
+        }
+        long average = knownTotal / known;
+        estimates.replaceAll((job, millis) -> millis < 0 ? average : millis);
+        return estimates;
+    }
+
+    /**
+     * Simulate a thread pool taking jobs in order: each job starts on the first thread to become free
+     */
+    private static long predictWallMillis(List<String> order, Map<String, Long> estimates, int threads) {
+        PriorityQueue<Long> threadFreeAt = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            threadFreeAt.add(0L);
+        }
+        long wallMillis = 0;
+        for (String job : order) {
+            long end = threadFreeAt.poll() + estimates.get(job);
+            threadFreeAt.add(end);
+            wallMillis = Math.max(wallMillis, end);
+        }
+        return wallMillis;
+    }
+}
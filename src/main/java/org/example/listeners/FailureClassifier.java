@@ -0,0 +1,62 @@
+package org.example.listeners;
+
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Classifies test failures so that only transient ones are retried
+ */
+public class FailureClassifier {
+
+    public enum FailureKind {
+        ASSERTION, TIMEOUT, INFRASTRUCTURE, UNKNOWN
+    }
+
+    private FailureClassifier() {
+    }
+
+    /**
+     * Classify a failure by the first recognised exception in its cause chain
+     */
+    public static FailureKind classify(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AssertionError) {
+                return FailureKind.ASSERTION;
+            }
+            if (cause instanceof TimeoutException || cause instanceof java.util.concurrent.TimeoutException) {
+                return FailureKind.TIMEOUT;
+            }
+            if (cause instanceof NoSuchSessionException || cause instanceof SessionNotCreatedException
+                    || cause instanceof UnreachableBrowserException || cause instanceof StaleElementReferenceException
+                    || cause instanceof IOException || isNetworkError(cause)) {
+                return FailureKind.INFRASTRUCTURE;
+            }
+        }
+        return FailureKind.UNKNOWN;
+    }
+
+    /**
+     * Whether a failure of this kind is worth retrying according to the configuration
+     */
+    public static boolean isRetryable(FailureKind kind) {
+        TestConfig.Retry retry = ConfigReader.getConfig().getRetry();
+        List<String> retryable = retry != null ? retry.getRetryableFailures() : null;
+        return retryable != null && retryable.contains(kind.name().toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isNetworkError(Throwable throwable) {
+        // Page loads that fail in the browser surface as plain WebDriverExceptions with a net:: error code
+        return throwable instanceof WebDriverException && throwable.getMessage() != null
+                && throwable.getMessage().contains("net::ERR_");
+    }
+}
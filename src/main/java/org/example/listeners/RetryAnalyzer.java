@@ -0,0 +1,45 @@
+package org.example.listeners;
+
+import org.example.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retries tests that failed for a transient reason, such as a wait timeout or a lost session.
+ * Assertion failures are never retried. The retry runs through the normal setUp, so it leases
+ * the warm session that the failed attempt returned to the driver pool.
+ * Installed on every test by RetryTransformer.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+    private static final Logger logger = LoggerFactory.getLogger(RetryAnalyzer.class);
+
+    // One analyzer may serve several data-provider invocations of a method
+    private final Map<String, AtomicInteger> retriesByParameters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean retry(ITestResult result) {
+        String testName = result.getMethod().getMethodName();
+        FailureClassifier.FailureKind kind = FailureClassifier.classify(result.getThrowable());
+        if (!FailureClassifier.isRetryable(kind)) {
+            logger.info("Not retrying {}: {} failure", testName, kind);
+            return false;
+        }
+        int maxRetries = ConfigReader.getMaxRetries();
+        int retry = retriesByParameters.computeIfAbsent(Arrays.toString(result.getParameters()),
+                k -> new AtomicInteger()).incrementAndGet();
+        if (retry > maxRetries) {
+            logger.warn("Not retrying {}: {} retries exhausted", testName, maxRetries);
+            return false;
+        }
+        logger.warn("Retrying {} after {} failure (retry {}/{}): {}", testName, kind, retry, maxRetries,
+                result.getThrowable() != null ? result.getThrowable().getMessage() : null);
+        return true;
+    }
+}
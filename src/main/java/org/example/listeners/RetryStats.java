@@ -0,0 +1,89 @@
+package org.example.listeners;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks retried and failed tests to tell flaky tests (passed on retry) from broken ones
+ * (failed on every attempt) and from tests failing with a non-retryable failure.
+ */
+public class RetryStats {
+    private static final Logger logger = LoggerFactory.getLogger(RetryStats.class);
+
+    public enum Outcome {
+        FLAKY, BROKEN, FAILED
+    }
+
+    private final Map<String, List<FailureClassifier.FailureKind>> retriedFailures = new ConcurrentHashMap<>();
+    private final Map<String, TestRetrySummary> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Record an attempt that failed and is being retried
+     */
+    public void recordRetry(String test, Throwable failure) {
+        retriedFailures.computeIfAbsent(test, k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(FailureClassifier.classify(failure));
+    }
+
+    /**
+     * Record the final attempt of a test
+     */
+    public void recordResult(String test, boolean passed, Throwable failure) {
+        List<FailureClassifier.FailureKind> retried = retriedFailures.getOrDefault(test, List.of());
+        if (passed && retried.isEmpty()) {
+            return;
+        }
+        List<FailureClassifier.FailureKind> failures = new ArrayList<>(retried);
+        Outcome outcome;
+        if (passed) {
+            outcome = Outcome.FLAKY;
+        } else {
+            failures.add(FailureClassifier.classify(failure));
+            outcome = retried.isEmpty() ? Outcome.FAILED : Outcome.BROKEN;
+        }
+        outcomes.put(test, new TestRetrySummary(test, outcome, retried.size() + 1,
+                failures.stream().map(Enum::name).collect(Collectors.toList())));
+    }
+
+    /**
+     * Log flaky and broken tests and write the per-test outcomes as JSON
+     */
+    public void writeReport(Path reportFile) {
+        List<TestRetrySummary> report = outcomes.values().stream()
+                .sorted(Comparator.comparing(TestRetrySummary::outcome).thenComparing(TestRetrySummary::test))
+                .collect(Collectors.toList());
+        if (report.isEmpty()) {
+            return;
+        }
+        Map<Outcome, Long> counts = report.stream()
+                .collect(Collectors.groupingBy(TestRetrySummary::outcome, Collectors.counting()));
+        logger.info("Retry summary - Flaky: {}, Broken: {}, Failed without retry: {}",
+                counts.getOrDefault(Outcome.FLAKY, 0L), counts.getOrDefault(Outcome.BROKEN, 0L),
+                counts.getOrDefault(Outcome.FAILED, 0L));
+        report.stream().filter(summary -> summary.outcome() != Outcome.FAILED).forEach(summary ->
+                logger.info("  {} {} after {} attempts: {}", summary.outcome(), summary.test(),
+                        summary.attempts(), summary.failures()));
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        } catch (IOException e) {
+            logger.warn("Failed to write retry report: {}", e.getMessage());
+        }
+    }
+
+    public record TestRetrySummary(String test, Outcome outcome, int attempts, List<String> failures) {
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.listeners;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Installs the RetryAnalyzer on every test that does not declare its own.
+ * Annotation transformers only take effect when registered in testng.xml.
+ */
+public class RetryTransformer implements IAnnotationTransformer {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> retryAnalyzer = annotation.getRetryAnalyzerClass();
+        if (retryAnalyzer == null || retryAnalyzer == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+}
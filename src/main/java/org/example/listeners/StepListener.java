@@ -0,0 +1,41 @@
+package org.example.listeners;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+import org.example.utils.StepProfile;
+
+import java.util.Optional;
+
+/**
+ * Tells StepProfile which page-object method each Allure step belongs to, so WebDriver commands
+ * can be counted per method rather than per rendered step name (which includes argument values).
+ * Registered with Allure through META-INF/services.
+ */
+public class StepListener implements StepLifecycleListener {
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    @Override
+    public void afterStepStart(StepResult result) {
+        StepProfile.stepStarted(findStepMethod().orElse(result.getName()));
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        StepProfile.stepStopped();
+    }
+
+    private static Optional<String> findStepMethod() {
+        // The first frame outside Allure and AspectJ is the @Step method whose advice started the step
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().startsWith("io.qameta.allure.")
+                        && !frame.getClassName().startsWith("java.")
+                        && !frame.getClassName().startsWith("org.aspectj.")
+                        && !frame.getClassName().equals(StepListener.class.getName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName()));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
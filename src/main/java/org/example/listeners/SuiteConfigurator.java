@@ -0,0 +1,122 @@
+package org.example.listeners;
+
+import org.example.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the configured parallel mode and thread count to every suite before it runs.
+ * For a cross-browser run (-Dbrowsers=chrome,firefox,edge) the suite is expanded into one
+ * test per browser; the browser tests run concurrently, each with its own thread budget.
+ * With parallel=tests the tests are started longest-first by their historical duration.
+ */
+public class SuiteConfigurator implements IAlterSuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(SuiteConfigurator.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        XmlSuite.ParallelMode parallelMode = XmlSuite.ParallelMode.getValidParallel(ConfigReader.getParallelMode());
+        int threadCount = Math.max(1, ConfigReader.getThreadCount());
+        List<String> browsers = ConfigReader.getMatrixBrowsers();
+
+        for (XmlSuite suite : suites) {
+            if (!browsers.isEmpty()) {
+                expandBrowserMatrix(suite, browsers, parallelMode);
+                continue;
+            }
+            suite.setParallel(parallelMode);
+            suite.setThreadCount(threadCount);
+            suite.setDataProviderThreadCount(threadCount);
+            if (parallelMode == XmlSuite.ParallelMode.TESTS) {
+                orderTestsLongestFirst(suite);
+            }
+            logger.info("Suite '{}' configured: parallel={}, threads={}", suite.getName(), parallelMode, threadCount);
+        }
+    }
+
+    /**
+     * Start the tests with the longest history first; tests without history keep their declared order after them
+     */
+    private void orderTestsLongestFirst(XmlSuite suite) {
+        DurationHistory history = DurationHistory.getInstance();
+        if (history == null) {
+            return;
+        }
+        String browser = ConfigReader.getBrowser();
+        Map<XmlTest, Long> estimates = new IdentityHashMap<>();
+        for (XmlTest test : suite.getTests()) {
+            long millis = -1;
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                OptionalLong classMillis = history.getClassMillis(browser, xmlClass.getName());
+                if (classMillis.isPresent()) {
+                    millis = Math.max(millis, 0) + classMillis.getAsLong();
+                }
+            }
+            estimates.put(test, millis);
+        }
+        if (estimates.values().stream().allMatch(millis -> millis < 0)) {
+            return;
+        }
+        List<XmlTest> ordered = new ArrayList<>(suite.getTests());
+        ordered.sort(Comparator.comparingLong((XmlTest test) -> estimates.get(test)).reversed());
+        suite.getTests().clear();
+        suite.getTests().addAll(ordered);
+        logger.info("Suite '{}' tests ordered longest-first: {}", suite.getName(),
+                ordered.stream().map(XmlTest::getName).collect(Collectors.toList()));
+    }
+
+    private void expandBrowserMatrix(XmlSuite suite, List<String> browsers, XmlSuite.ParallelMode parallelMode) {
+        List<XmlTest> originalTests = new ArrayList<>(suite.getTests());
+        suite.getTests().clear();
+
+        // Threads are budgeted per browser test, so the browser's classes must be able to share them
+        XmlSuite.ParallelMode browserParallelMode = parallelMode == XmlSuite.ParallelMode.METHODS
+                || parallelMode == XmlSuite.ParallelMode.INSTANCES
+                ? parallelMode : XmlSuite.ParallelMode.CLASSES;
+
+        for (String browser : browsers) {
+            XmlTest browserTest = new XmlTest(suite);
+            browserTest.setName(suite.getName() + " [" + browser + "]");
+
+            Map<String, String> parameters = new HashMap<>();
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlTest originalTest : originalTests) {
+                parameters.putAll(originalTest.getLocalParameters());
+                for (XmlClass originalClass : originalTest.getXmlClasses()) {
+                    XmlClass xmlClass = new XmlClass(originalClass.getName(), classes.size(), false);
+                    xmlClass.setIncludedMethods(originalClass.getIncludedMethods());
+                    xmlClass.setExcludedMethods(originalClass.getExcludedMethods());
+                    classes.add(xmlClass);
+                }
+            }
+            // BaseTest picks the browser up through @Parameters; Allure uses it to keep the runs apart
+            parameters.put("browser", browser);
+            browserTest.setParameters(parameters);
+            browserTest.setXmlClasses(classes);
+            browserTest.setPreserveOrder(true);
+
+            int browserThreads = Math.max(1, ConfigReader.getBrowserThreadCount(browser));
+            browserTest.setParallel(browserParallelMode);
+            browserTest.setThreadCount(browserThreads);
+            logger.info("Browser test '{}' configured: {} classes, parallel={}, threads={}",
+                    browserTest.getName(), classes.size(), browserParallelMode, browserThreads);
+        }
+
+        suite.setParallel(XmlSuite.ParallelMode.TESTS);
+        suite.setThreadCount(browsers.size());
+        suite.setDataProviderThreadCount(Math.max(1, ConfigReader.getThreadCount()));
+    }
+}
@@ -1,34 +1,119 @@
 package org.example.listeners;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.qameta.allure.Allure;
+import io.qameta.allure.model.Label;
+import org.example.config.ConfigReader;
+import org.example.pages.LocatorChain;
+import org.example.pages.LocatorRegistry;
+import org.example.pages.PageWeight;
+import org.example.pages.WaitEngine;
+import org.example.pages.WaitHistory;
+import org.example.utils.ArtifactWriter;
+import org.example.utils.StepProfile;
+import org.example.utils.Telemetry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
 /**
- * TestNG listener for test execution events
+ * TestNG listener for test execution events.
+ * Callbacks may arrive concurrently from parallel test threads, so suite-wide
+ * totals are kept in lock-free counters, overall and per browser.
+ * Also marks the setup, body and teardown of every test for Telemetry.
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener, IInvokedMethodListener {
     private static final Logger logger = LoggerFactory.getLogger(TestListener.class);
 
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder totalDurationMillis = new LongAdder();
+    private final Map<String, BrowserStats> browserStats = new ConcurrentHashMap<>();
+    private final RetryStats retryStats = new RetryStats();
+    private final DurationHistory durationHistory = DurationHistory.getInstance();
+    private final ThreadLocal<Telemetry.Span> invokedMethodSpan = new ThreadLocal<>();
+    private volatile long suiteStartMillis;
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        Telemetry.Phase phase;
+        if (method.isTestMethod()) {
+            Telemetry.beginTest();
+            Telemetry.setTestName(getTestKey(testResult));
+            phase = Telemetry.Phase.ASSERTION;
+        } else if (method.getTestMethod().isBeforeMethodConfiguration()) {
+            Telemetry.beginTest();
+            phase = Telemetry.Phase.SETUP;
+        } else if (method.getTestMethod().isAfterMethodConfiguration()) {
+            phase = Telemetry.Phase.TEARDOWN;
+        } else {
+            return;
+        }
+        invokedMethodSpan.set(Telemetry.phase(phase));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Telemetry.Span span = invokedMethodSpan.get();
+        if (span != null) {
+            invokedMethodSpan.remove();
+            span.close();
+        }
+        if (method.getTestMethod().isAfterMethodConfiguration()) {
+            Telemetry.endTest();
+        }
+    }
+
     @Override
     public void onTestStart(ITestResult result) {
         logger.info("Starting test: {}", result.getMethod().getMethodName());
-        Allure.getLifecycle().updateTestCase(testResult ->
-                testResult.setDescription(result.getMethod().getDescription())
-        );
+        String browser = getBrowser(result);
+        Allure.getLifecycle().updateTestCase(testResult -> {
+            testResult.setDescription(result.getMethod().getDescription());
+            testResult.getLabels().add(new Label().setName("tag").setValue(browser));
+        });
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
+        passed.increment();
+        getBrowserStats(result).passed.increment();
+        totalDurationMillis.add(result.getEndMillis() - result.getStartMillis());
+        retryStats.recordResult(getTestKey(result), true, null);
+        recordDuration(result);
         logger.info("Test PASSED: {}", result.getMethod().getMethodName());
         logger.info("Duration: {} ms", result.getEndMillis() - result.getStartMillis());
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
+        failed.increment();
+        getBrowserStats(result).failed.increment();
+        totalDurationMillis.add(result.getEndMillis() - result.getStartMillis());
+        retryStats.recordResult(getTestKey(result), false, result.getThrowable());
+        recordDuration(result);
         logger.error("Test FAILED: {}", result.getMethod().getMethodName());
         logger.error("Failure reason: {}", result.getThrowable().getMessage());
         logger.error("Duration: {} ms", result.getEndMillis() - result.getStartMillis());
@@ -36,6 +121,15 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            // A failed attempt that will be run again is reported as skipped; only its final attempt counts
+            retryStats.recordRetry(getTestKey(result), result.getThrowable());
+            recordDuration(result);
+            logger.warn("Test RETRIED: {}", result.getMethod().getMethodName());
+            return;
+        }
+        skipped.increment();
+        getBrowserStats(result).skipped.increment();
         logger.warn("Test SKIPPED: {}", result.getMethod().getMethodName());
     }
 
@@ -46,12 +140,115 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onFinish(ITestContext context) {
+        getBrowserStats(context).addRun(context.getStartDate().getTime(), context.getEndDate().getTime());
         logger.info("Finished Test Suite: {}", context.getName());
         logger.info("Total tests run: {}", context.getAllTestMethods().length);
         logger.info("Passed: {}", context.getPassedTests().size());
         logger.info("Failed: {}", context.getFailedTests().size());
         logger.info("Skipped: {}", context.getSkippedTests().size());
     }
-}
 
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStartMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        long wallClockMillis = System.currentTimeMillis() - suiteStartMillis;
+        logger.info("Suite '{}' finished - Passed: {}, Failed: {}, Skipped: {}",
+                suite.getName(), passed.sum(), failed.sum(), skipped.sum());
+        logger.info("Cumulative test time: {} ms, wall-clock time: {} ms, threads: {}",
+                totalDurationMillis.sum(), wallClockMillis, suite.getXmlSuite().getThreadCount());
+        WaitEngine.writeLatencyReport(Paths.get("target", "wait-latency.json"), 10);
+        PageWeight.writeReport(Paths.get("target", "page-weight.json"));
+        writeBrowserSummary(Paths.get("target", "browser-summary.json"));
+        retryStats.writeReport(Paths.get("target", "retry-stats.json"));
+        Telemetry.writeReport(Paths.get("target", "telemetry.json"), Paths.get("target", "telemetry.prom"));
+        StepProfile.writeReport(Paths.get("target", "step-profile.json"));
+        LocatorRegistry.writeReport(Paths.get("target", "locator-cache.json"), 10);
+        LocatorChain.saveWinners();
+        LocatorChain.writeHealedReport(Paths.get("target", "healed-locators.json"));
+        WaitHistory waitHistory = WaitHistory.getInstance();
+        if (waitHistory != null) {
+            waitHistory.save();
+        }
+        if (durationHistory != null) {
+            durationHistory.save();
+        }
+        ArtifactWriter.flush(Duration.ofSeconds(30));
+    }
+
+    private void writeBrowserSummary(Path summaryFile) {
+        List<BrowserSummary> summary = browserStats.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparing(BrowserSummary::browser))
+                .collect(Collectors.toList());
+        logger.info("Results by browser:");
+        summary.forEach(browser -> logger.info("  {} - {}: Passed: {}, Failed: {}, Skipped: {}, duration: {} ms",
+                browser.browser(), browser.failed() == 0 ? "PASSED" : "FAILED",
+                browser.passed(), browser.failed(), browser.skipped(), browser.durationMillis()));
+        try {
+            Files.createDirectories(summaryFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(summaryFile.toFile(), summary);
+        } catch (IOException e) {
+            logger.warn("Failed to write browser summary: {}", e.getMessage());
+        }
+    }
+
+    private BrowserStats getBrowserStats(ITestResult result) {
+        return getBrowserStats(result.getTestContext());
+    }
+
+    private BrowserStats getBrowserStats(ITestContext context) {
+        return browserStats.computeIfAbsent(getBrowser(context), k -> new BrowserStats());
+    }
+
+    private void recordDuration(ITestResult result) {
+        if (durationHistory != null) {
+            durationHistory.record(getBrowser(result), result.getMethod().getQualifiedName(),
+                    result.getEndMillis() - result.getStartMillis());
+        }
+    }
+
+    private static String getTestKey(ITestResult result) {
+        String key = result.getMethod().getQualifiedName();
+        if (result.getParameters().length > 0) {
+            key += Arrays.toString(result.getParameters());
+        }
+        return key + " [" + getBrowser(result) + "]";
+    }
+
+    private static String getBrowser(ITestResult result) {
+        return getBrowser(result.getTestContext());
+    }
 
+    static String getBrowser(ITestContext context) {
+        // Cross-browser runs set the browser per <test>; otherwise it comes from the run configuration
+        String browser = context.getCurrentXmlTest().getParameter("browser");
+        return browser != null && !browser.trim().isEmpty() ? browser.trim() : ConfigReader.getBrowser();
+    }
+
+    public record BrowserSummary(String browser, long passed, long failed, long skipped, long durationMillis) {
+    }
+
+    private static class BrowserStats {
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAccumulator firstStartMillis = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator lastEndMillis = new LongAccumulator(Math::max, 0);
+
+        private void addRun(long startMillis, long endMillis) {
+            firstStartMillis.accumulate(startMillis);
+            lastEndMillis.accumulate(endMillis);
+        }
+
+        private BrowserSummary snapshot(String browser) {
+            long start = firstStartMillis.get();
+            long end = lastEndMillis.get();
+            return new BrowserSummary(browser, passed.sum(), failed.sum(), skipped.sum(),
+                    start == Long.MAX_VALUE ? 0 : end - start);
+        }
+    }
+}
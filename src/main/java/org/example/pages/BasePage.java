@@ -2,69 +2,112 @@ package org.example.pages;
 
 import io.qameta.allure.Step;
 import org.example.config.ConfigReader;
+import org.example.utils.Telemetry;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Base Page class with common page operations and wait strategies
  */
 public abstract class BasePage {
+    private static final String EXTRACT_ROWS_SCRIPT = ScriptLocator.HELPERS + """
+            var using = arguments[0], value = arguments[1], fields = arguments[2];
+            return mbFind(using, value).map(function (row) {
+              var record = {};
+              Object.keys(fields).forEach(function (name) {
+                var cell = row.querySelector(fields[name]);
+                record[name] = cell ? (cell.innerText || cell.textContent || '').trim() : null;
+              });
+              return record;
+            });
+            """;
+    private static final String COUNT_ELEMENTS_SCRIPT = ScriptLocator.HELPERS
+            + "return mbFind(arguments[0], arguments[1]).length;";
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected WaitEngine waitEngine;
+    protected LocatorRegistry locators;
+    protected Duration explicitWait;
     protected static final Logger logger = LoggerFactory.getLogger(BasePage.class);
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        int explicitWait = ConfigReader.getConfig().getTimeouts().getExplicitWait();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(explicitWait));
+        this.explicitWait = Duration.ofSeconds(ConfigReader.getConfig().getTimeouts().getExplicitWait());
+        this.locators = LocatorRegistry.forDriver(driver);
+        this.wait = locators.getWait(driver);
+        this.waitEngine = locators.getWaitEngine(driver);
     }
 
     protected WebElement waitForElementVisible(By locator) {
-        return waitFor(ExpectedConditions.visibilityOfElementLocated(locator), "Element not visible: " + locator);
+        return waitFor(locator, WaitEngine.Condition.VISIBLE, "Element not visible: " + locator);
     }
 
     protected WebElement waitForElementClickable(By locator) {
-        return waitFor(ExpectedConditions.elementToBeClickable(locator), "Element not clickable: " + locator);
+        return waitFor(locator, WaitEngine.Condition.CLICKABLE, "Element not clickable: " + locator);
     }
 
     protected List<WebElement> waitForElementsVisible(By locator) {
-        return waitFor(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator), "Elements not visible: " + locator);
+        try {
+            return waitEngine.awaitAllVisible(locator);
+        } catch (TimeoutException e) {
+            logger.error("Elements not visible: " + locator);
+            throw e;
+        }
     }
 
     protected WebElement waitForElementPresent(By locator) {
-        return waitFor(ExpectedConditions.presenceOfElementLocated(locator), "Element not present: " + locator);
+        return waitFor(locator, WaitEngine.Condition.PRESENT, "Element not present: " + locator);
     }
 
-    private <T> T waitFor(org.openqa.selenium.support.ui.ExpectedCondition<T> condition, String errorMsg) {
+    private WebElement waitFor(By locator, WaitEngine.Condition condition, String errorMsg) {
         try {
-            return wait.until(condition);
+            return locators.resolve(locator, condition, () -> waitEngine.awaitElement(locator, condition));
         } catch (TimeoutException e) {
             logger.error(errorMsg);
             throw e;
         }
     }
 
+    /**
+     * Act on the element for a locator, resolving it again once if the cached element went stale
+     */
+    private <T> T withElement(By locator, Function<By, WebElement> find, Function<WebElement, T> action) {
+        try {
+            return action.apply(find.apply(locator));
+        } catch (StaleElementReferenceException e) {
+            locators.evict(locator);
+            return action.apply(find.apply(locator));
+        }
+    }
+
     @Step("Check if element is displayed: {locator}")
     protected boolean isElementDisplayed(By locator) {
-        try {
-            return driver.findElement(locator).isDisplayed();
-        } catch (NoSuchElementException e) {
+        // No implicit wait is configured, so a missing element is reported immediately
+        List<WebElement> elements = driver.findElements(locator);
+        if (elements.isEmpty()) {
             logger.debug("Element not found: {}", locator);
             return false;
         }
+        return elements.get(0).isDisplayed();
     }
 
     @Step("Check if element is displayed with wait: {locator}")
     protected boolean isElementDisplayedWithWait(By locator, int timeoutSeconds) {
         try {
-            return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                    .until(ExpectedConditions.visibilityOfElementLocated(locator)).isDisplayed();
+            return withElement(locator, by -> locators.resolve(by, WaitEngine.Condition.VISIBLE,
+                    () -> waitEngine.awaitElement(by, WaitEngine.Condition.VISIBLE, Duration.ofSeconds(timeoutSeconds))),
+                    WebElement::isDisplayed);
         } catch (TimeoutException | NoSuchElementException e) {
             logger.debug("Element not displayed: {}", locator);
             return false;
@@ -73,26 +116,32 @@ public abstract class BasePage {
 
     @Step("Click element: {locator}")
     protected void click(By locator) {
-        waitForElementClickable(locator).click();
+        withElement(locator, this::waitForElementClickable, element -> {
+            element.click();
+            return null;
+        });
         logger.info("Clicked element: {}", locator);
     }
 
     @Step("Get text from element: {locator}")
     protected String getText(By locator) {
-        String text = waitForElementVisible(locator).getText();
+        String text = withElement(locator, this::waitForElementVisible, WebElement::getText);
         logger.info("Got text '{}' from: {}", text, locator);
         return text;
     }
 
     @Step("Enter text '{text}' into element: {locator}")
     protected void enterText(By locator, String text) {
-        waitForElementVisible(locator).sendKeys(text);
+        withElement(locator, this::waitForElementVisible, element -> {
+            element.sendKeys(text);
+            return null;
+        });
         logger.info("Entered text '{}' into: {}", text, locator);
     }
 
     @Step("Get attribute '{attribute}' from element: {locator}")
     protected String getAttribute(By locator, String attribute) {
-        return waitForElementPresent(locator).getAttribute(attribute);
+        return withElement(locator, this::waitForElementPresent, element -> element.getAttribute(attribute));
     }
 
     protected List<WebElement> getElements(By locator) {
@@ -101,8 +150,10 @@ public abstract class BasePage {
 
     @Step("Scroll to element: {locator}")
     protected void scrollToElement(By locator) {
-        WebElement element = waitForElementPresent(locator);
-        scrollToElement(element);
+        withElement(locator, this::waitForElementPresent, element -> {
+            scrollToElement(element);
+            return null;
+        });
     }
 
     @Step("Scroll to element")
@@ -119,29 +170,77 @@ public abstract class BasePage {
 
     @Step("Wait for page to load completely")
     protected void waitForPageLoad() {
-        wait.until(driver -> executeScript("return document.readyState").equals("complete"));
-        logger.debug("Page loaded completely");
+        Telemetry.time(Telemetry.Phase.PAGE_OPEN, () -> {
+            waitEngine.awaitDocumentComplete(getClass().getSimpleName());
+            logger.debug("Page loaded completely");
+            PageMetrics.capture(driver);
+        });
+    }
+
+    /**
+     * Extract text fields from every row matching the locator in a single script call.
+     * Field selectors are CSS selectors relative to the row; missing cells map to null.
+     */
+    protected <T> List<T> extractRows(By rowLocator, Map<String, String> fieldSelectors,
+                                      Function<Map<String, String>, T> mapper) {
+        Object[] scriptArgs = ScriptLocator.toScriptArgs(rowLocator);
+        if (scriptArgs == null) {
+            return extractRowsByElement(rowLocator, fieldSelectors, mapper);
+        }
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> rows = (List<Map<String, String>>) executeScript(EXTRACT_ROWS_SCRIPT,
+                scriptArgs[0], scriptArgs[1], fieldSelectors);
+        logger.debug("Extracted {} rows for: {}", rows.size(), rowLocator);
+        return rows.stream().map(mapper).collect(Collectors.toList());
+    }
+
+    private <T> List<T> extractRowsByElement(By rowLocator, Map<String, String> fieldSelectors,
+                                             Function<Map<String, String>, T> mapper) {
+        List<T> rows = new ArrayList<>();
+        for (WebElement row : driver.findElements(rowLocator)) {
+            Map<String, String> record = new HashMap<>();
+            fieldSelectors.forEach((name, selector) -> {
+                List<WebElement> cells = row.findElements(By.cssSelector(selector));
+                record.put(name, cells.isEmpty() ? null : cells.get(0).getText().trim());
+            });
+            rows.add(mapper.apply(record));
+        }
+        return rows;
+    }
+
+    /**
+     * Count elements matching the locator without fetching them as remote WebElements
+     */
+    protected int countElements(By locator) {
+        Object[] scriptArgs = ScriptLocator.toScriptArgs(locator);
+        if (scriptArgs == null) {
+            return driver.findElements(locator).size();
+        }
+        return ((Number) executeScript(COUNT_ELEMENTS_SCRIPT, scriptArgs[0], scriptArgs[1])).intValue();
     }
 
     private Object executeScript(String script, Object... args) {
         return ((JavascriptExecutor) driver).executeScript(script, args);
     }
 
+    /**
+     * Check presence and visibility of several texts in one browser-side wait instead of a lookup per text.
+     * Waits until all texts are displayed or the explicit wait passes; results are keyed by text in the order given.
+     */
+    @Step("Check if texts are displayed: {texts}")
+    public Map<String, TextPresence> findTexts(Collection<String> texts) {
+        Map<String, TextPresence> result = waitEngine.awaitTexts(texts.stream().distinct().collect(Collectors.toList()));
+        logger.debug("Text presence: {}", result);
+        return result;
+    }
+
     @Step("Check if text is displayed: {text}")
     public boolean isTextDisplayed(String text) {
         try {
-            // Use XPath to find any element containing the text
-            String xpath = String.format("//*[contains(text(), '%s')]", text.replace("'", "\\'"));
-            WebElement element = driver.findElement(By.xpath(xpath));
-            // Scroll to the element
-            scrollToElement(element);
-            boolean isDisplayed = element.isDisplayed();
+            boolean isDisplayed = waitEngine.awaitTexts(List.of(text)).get(text).displayed();
             logger.debug("Text '{}' - displayed: {}", text, isDisplayed);
             return isDisplayed;
-        } catch (NoSuchElementException e) {
-            logger.debug("Text '{}' not found on page", text);
-            return false;
-        } catch (Exception e) {
+        } catch (WebDriverException e) {
             logger.warn("Error checking if text '{}' is displayed: {}", text, e.getMessage());
             return false;
         }
@@ -1,6 +1,7 @@
 package org.example.pages;
 
 import io.qameta.allure.Step;
+import org.example.utils.Telemetry;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -8,7 +9,6 @@ import org.openqa.selenium.WebElement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Page Object Model for MultiBank Home/Trading Page
@@ -20,13 +20,21 @@ public class HomePage extends BasePage {
 
     // Trading Section Locators
     private final By spotTradingSection = By.cssSelector("div.home_section-wrapper__3AINE, [class*='home_section-wrapper']");
-    private final By spotTradingHeader = By.xpath("//span[@class='style_label-badge-wrapper__MWCxl style_active__Yuxzy']");
+    private final By spotTradingHeader = LocatorChain.of(
+            By.xpath("//span[@class='style_label-badge-wrapper__MWCxl style_active__Yuxzy']"),
+            By.cssSelector("span[class*='label-badge-wrapper'][class*='style_active']"));
     private final By tradingTable = By.cssSelector("table.style_table__kBCjf, table[class*='style_table']");
     private final By tradingPairs = By.cssSelector("tr.style_row__BPgMJ.style_selectable__mQK12");
     private final By tradingCategories = By.cssSelector("button.style_tab__xRtAF");
     private final By tradingCategoryDropdown = By.cssSelector("button[id*='headlessui-menu-button'], button[aria-haspopup='true'], button[aria-expanded]");
-    private final By tradingTableSearchIcon = By.cssSelector("button.style_search-button__5yx5v, input[placeholder='Search'], input[type='search']");
-    private final By tradingTableSearchInput = By.cssSelector("input.style_search-input__ZcX1j, input[placeholder='Search Pairs']");
+    private final By tradingTableSearchIcon = LocatorChain.of(
+            By.cssSelector("button.style_search-button__5yx5v"),
+            By.cssSelector("button[class*='search-button']"),
+            By.cssSelector("input[placeholder='Search'], input[type='search']"));
+    private final By tradingTableSearchInput = LocatorChain.of(
+            By.cssSelector("input.style_search-input__ZcX1j"),
+            By.cssSelector("input[class*='search-input']"),
+            By.cssSelector("input[placeholder='Search Pairs']"));
 
     // Footer/Bottom Section Locators
     private final By marketingBanners = By.cssSelector("[class*='banner-container'], [class*='banner-title'], [class*='hero-banner']");
@@ -36,7 +44,9 @@ public class HomePage extends BasePage {
 
     // About Section
     private final By aboutUsLink = By.id("about-header-option-open-button");
-    private final By whyMultiBankLink = By.xpath("//a[contains(@class, 'style_trade-link__m4JnR') and contains(@href, 'multibank')]");
+    private final By whyMultiBankLink = LocatorChain.of(
+            By.xpath("//a[contains(@class, 'style_trade-link__m4JnR') and contains(@href, 'multibank')]"),
+            By.xpath("//a[contains(@class, 'trade-link') and contains(@href, 'multibank')]"));
 
     public HomePage(WebDriver driver) {
         super(driver);
@@ -45,7 +55,8 @@ public class HomePage extends BasePage {
     @Step("Open MultiBank trading platform")
     public HomePage open(String url) {
         logger.info("Opening URL: {}", url);
-        driver.get(url);
+        // waitForPageLoad records its own page open time
+        Telemetry.time(Telemetry.Phase.PAGE_OPEN, () -> driver.get(url));
         waitForPageLoad();
         return this;
     }
@@ -102,9 +113,9 @@ public class HomePage extends BasePage {
     public boolean hasTradingPairs() {
         try {
             waitForElementVisible(tradingTable);
-            List<WebElement> pairs = driver.findElements(tradingPairs);
-            logger.info("Trading pairs check: {} pairs found", pairs.size());
-            return !pairs.isEmpty();
+            int count = countElements(tradingPairs);
+            logger.info("Trading pairs check: {} pairs found", count);
+            return count > 0;
         } catch (Exception e) {
             logger.error("Error checking trading pairs: {}", e.getMessage());
             return false;
@@ -115,15 +126,23 @@ public class HomePage extends BasePage {
     public int getTradingPairsCount() {
         try {
             waitForElementVisible(tradingTable);
-            List<WebElement> pairs = driver.findElements(tradingPairs);
-            logger.info("Found {} trading pairs", pairs.size());
-            return pairs.size();
+            int count = countElements(tradingPairs);
+            logger.info("Found {} trading pairs", count);
+            return count;
         } catch (Exception e) {
             logger.error("Failed to count trading pairs: {}", e.getMessage());
             return 0;
         }
     }
 
+    @Step("Get trading table snapshot")
+    public List<TradingPairRow> getTradingTableSnapshot() {
+        waitForElementVisible(tradingTable);
+        List<TradingPairRow> rows = extractRows(tradingPairs, TradingPairRow.FIELDS, TradingPairRow::fromFields);
+        logger.info("Captured {} trading table rows", rows.size());
+        return rows;
+    }
+
     @Step("Wait for trading pairs to load")
     public void waitForTradingPairsToLoad() {
         waitForElementVisible(tradingTable);
@@ -151,25 +170,13 @@ public class HomePage extends BasePage {
         enterText(tradingTableSearchInput, pairName);
         waitForElementVisible(tradingPairs);
 
-        // Find the row containing the searched pair
-        WebElement pairRow = driver.findElement(By.xpath(String.format("//td[contains(@id, '%s')]/ancestor::tr", pairName)));
-        List<WebElement> cells = pairRow.findElements(By.tagName("td"));
-
-        Map<String, String> pairData = new HashMap<>();
+        // Read the row containing the searched pair in one round-trip
+        By pairRow = By.xpath(String.format("//td[contains(@id, '%s')]/ancestor::tr", pairName));
+        List<TradingPairRow> rows = extractRows(pairRow, TradingPairRow.FIELDS, TradingPairRow::fromFields);
 
-        // Assuming table structure: Pair | Price | 24h Change | High | Low | Last 7 days
-        if (cells.size() >= 6) {
-            pairData.put("pair", cells.get(1).getText().trim());
-            pairData.put("price", cells.get(2).getText().trim());
-            pairData.put("change", cells.get(3).getText().trim());
-            pairData.put("high", cells.get(4).getText().trim());
-            pairData.put("low", cells.get(5).getText().trim());
-
-            // Check if chart/last 7 days column exists
-            if (cells.size() >= 6) {
-                pairData.put("chart", "Present");
-            }
-        }
+        Map<String, String> pairData = rows.isEmpty() || rows.get(0).low() == null
+                ? new HashMap<>()
+                : rows.get(0).toMap();
         logger.info("Extracted data for {}: {}", pairName, pairData);
         return pairData;
     }
@@ -0,0 +1,221 @@
+package org.example.pages;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Locator made of ordered alternative strategies for the same element, e.g. a brittle absolute XPath
+ * followed by XPaths anchored on nearby text and CSS attribute matches.
+ * WaitEngine races all alternatives in one browser-side wait sharing the wait's timeout, so a broken
+ * strategy costs nothing while another one still matches; when several match, declaration order decides.
+ * The alternative that matched is remembered on disk and tried first when locating by polling on the
+ * next run. Every run in which a fallback matched logs a warning and lists the chain in the healed report.
+ * Chains are equal when all their alternatives are, so chains sharing only a primary never share
+ * a cached element or a remembered winner.
+ */
+public class LocatorChain extends By {
+    private static final Logger logger = LoggerFactory.getLogger(LocatorChain.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    // Winning alternative per chain, keyed by all alternatives of the chain
+    private static final Map<String, String> winners = new ConcurrentHashMap<>();
+    private static volatile boolean winnersLoaded;
+    // Matches of fallback alternatives in this run: chain, then matched alternative
+    private static final Map<LocatorChain, Map<String, LongAdder>> healedMatches = new ConcurrentHashMap<>();
+
+    private final List<By> alternatives;
+    private final String primary;
+    private final String key;
+
+    private LocatorChain(List<By> alternatives) {
+        this.alternatives = alternatives;
+        this.primary = alternatives.get(0).toString();
+        this.key = alternatives.stream().map(By::toString).collect(Collectors.joining(" | "));
+    }
+
+    /**
+     * Create a chain trying the primary locator first and then the fallbacks in the given order
+     */
+    public static LocatorChain of(By primary, By... fallbacks) {
+        List<By> alternatives = new ArrayList<>();
+        alternatives.add(primary);
+        alternatives.addAll(List.of(fallbacks));
+        return new LocatorChain(List.copyOf(alternatives));
+    }
+
+    /**
+     * Get the alternatives in declaration order, primary first
+     */
+    public List<By> getDeclaredAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     * Get the alternatives in the order to try them one by one: the one that matched last first,
+     * then declaration order
+     */
+    public List<By> getAlternatives() {
+        String winner = getWinners().get(key);
+        if (winner == null || winner.equals(primary)) {
+            return alternatives;
+        }
+        List<By> ordered = new ArrayList<>(alternatives.size());
+        for (By alternative : alternatives) {
+            if (alternative.toString().equals(winner)) {
+                ordered.add(0, alternative);
+            } else {
+                ordered.add(alternative);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Remember the alternative that matched. A fallback match is counted for the healed report and
+     * logged the first time it happens in a run.
+     */
+    public void recordMatch(By alternative) {
+        String matched = alternative.toString();
+        getWinners().put(key, matched);
+        if (matched.equals(primary)) {
+            return;
+        }
+        Map<String, LongAdder> matches = healedMatches.computeIfAbsent(this, k -> new ConcurrentHashMap<>());
+        LongAdder count = new LongAdder();
+        LongAdder previous = matches.putIfAbsent(matched, count);
+        if (previous == null) {
+            logger.warn("Primary locator {} did not match; healed with {}", primary, matched);
+        } else {
+            count = previous;
+        }
+        count.increment();
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        for (By alternative : getAlternatives()) {
+            List<WebElement> elements = context.findElements(alternative);
+            if (!elements.isEmpty()) {
+                recordMatch(alternative);
+                return elements;
+            }
+        }
+        return List.of();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LocatorChain && alternatives.equals(((LocatorChain) o).alternatives);
+    }
+
+    @Override
+    public int hashCode() {
+        return alternatives.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "By.chain: " + key;
+    }
+
+    private static Map<String, String> getWinners() {
+        if (!winnersLoaded) {
+            synchronized (LocatorChain.class) {
+                if (!winnersLoaded) {
+                    Path file = getWinnersFile();
+                    if (file != null && Files.exists(file)) {
+                        try {
+                            winners.putAll(mapper.readValue(file.toFile(), new TypeReference<Map<String, String>>() {
+                            }));
+                        } catch (IOException e) {
+                            logger.warn("Ignoring unreadable locator fallback history {}: {}", file, e.getMessage());
+                        }
+                    }
+                    winnersLoaded = true;
+                }
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Write the winning alternative of every chain used so far, merged with earlier runs
+     */
+    public static synchronized void saveWinners() {
+        Path file = getWinnersFile();
+        if (file == null || !winnersLoaded || winners.isEmpty()) {
+            return;
+        }
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tmpFile = Files.createTempFile(directory, "locator-fallbacks", ".tmp");
+            mapper.writeValue(tmpFile.toFile(), new TreeMap<>(winners));
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            logger.debug("Locator fallback history saved to {}", file);
+        } catch (IOException e) {
+            logger.warn("Failed to save locator fallback history: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Chains whose primary locator did not match in this run, most fallback matches first
+     */
+    public static List<HealedLocator> getHealedReport() {
+        List<HealedLocator> report = new ArrayList<>();
+        healedMatches.forEach((chain, matches) -> matches.forEach((matched, count) ->
+                report.add(new HealedLocator(chain.primary, matched, count.sum()))));
+        return report.stream()
+                .sorted(Comparator.comparingLong(HealedLocator::matches).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Log the chains healed in this run and write them as JSON
+     */
+    public static void writeHealedReport(Path reportFile) {
+        List<HealedLocator> report = getHealedReport();
+        if (report.isEmpty()) {
+            return;
+        }
+        logger.warn("{} locators matched only through a fallback; update their primary locator:", report.size());
+        report.forEach(healed -> logger.warn("  {} -> {} ({} matches)", healed.primary(), healed.matched(),
+                healed.matches()));
+        try {
+            Files.createDirectories(reportFile.getParent());
+            mapper.writeValue(reportFile.toFile(), report);
+        } catch (IOException e) {
+            logger.warn("Failed to write healed locator report: {}", e.getMessage());
+        }
+    }
+
+    public record HealedLocator(String primary, String matched, long matches) {
+    }
+
+    private static Path getWinnersFile() {
+        TestConfig.LocatorCache config = ConfigReader.getConfig().getLocatorCache();
+        String file = config != null ? config.getFallbackHistory() : null;
+        return file != null && !file.trim().isEmpty() ? Paths.get(file.trim()) : null;
+    }
+}
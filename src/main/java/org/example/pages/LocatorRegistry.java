@@ -0,0 +1,293 @@
+package org.example.pages;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.example.utils.LatencyHistogram;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Per-session state shared by all page objects of a driver: one WebDriverWait and WaitEngine,
+ * and a cache of resolved elements. Locators are immutable values, so page objects declare
+ * them as fields and every instance shares the cache entries.
+ * <p>
+ * Cached elements belong to a navigation epoch. The epoch ends on navigation, window or
+ * frame switches, clicks and key input (reported by {@link #navigationListener()}), which drops
+ * the whole cache; a single element is dropped when it turns out to be stale. Visibility and
+ * enablement can change within an epoch (rotating banners, animations), so they are checked again
+ * on every cache hit that asks for them.
+ * The registry holds its driver through the shared waits, so whoever quits a registered driver
+ * must {@link #unregister(WebDriver)} it.
+ */
+public class LocatorRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(LocatorRegistry.class);
+    private static final Map<WebDriver, LocatorRegistry> registries = new ConcurrentHashMap<>();
+    private static final Map<String, LocatorStats> statsByLocator = new ConcurrentHashMap<>();
+
+    private final boolean cacheEnabled;
+    private final boolean metricsEnabled;
+    private final Map<By, CachedElement> elements = new ConcurrentHashMap<>();
+    private volatile long epoch;
+    private volatile WebDriverWait wait;
+    private volatile WaitEngine waitEngine;
+
+    private LocatorRegistry(boolean cacheEnabled) {
+        TestConfig.LocatorCache config = ConfigReader.getConfig().getLocatorCache();
+        this.cacheEnabled = cacheEnabled && config != null && config.isEnabled();
+        this.metricsEnabled = config != null && config.isMetrics();
+    }
+
+    /**
+     * Create a registry whose cache is invalidated by its navigation listener;
+     * bind it to the driver the listener decorates with {@link #register(WebDriver, LocatorRegistry)}
+     */
+    public static LocatorRegistry create() {
+        return new LocatorRegistry(true);
+    }
+
+    public static void register(WebDriver driver, LocatorRegistry registry) {
+        registries.put(driver, registry);
+    }
+
+    /**
+     * Forget the registry of a driver that was quit, dropping its cached elements
+     */
+    public static void unregister(WebDriver driver) {
+        LocatorRegistry registry = registries.remove(driver);
+        if (registry != null) {
+            registry.invalidate();
+        }
+    }
+
+    /**
+     * Get the registry of a driver. A driver that was not registered gets a new registry that
+     * never caches elements, because nothing would tell it about navigation; it is not kept.
+     */
+    public static LocatorRegistry forDriver(WebDriver driver) {
+        LocatorRegistry registry = registries.get(driver);
+        return registry != null ? registry : new LocatorRegistry(false);
+    }
+
+    /**
+     * WebDriverWait with the configured explicit wait, shared by the page objects of this session
+     */
+    public WebDriverWait getWait(WebDriver driver) {
+        if (wait == null) {
+            wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getConfig().getTimeouts().getExplicitWait()));
+        }
+        return wait;
+    }
+
+    /**
+     * WaitEngine shared by the page objects of this session
+     */
+    public WaitEngine getWaitEngine(WebDriver driver) {
+        if (waitEngine == null) {
+            waitEngine = new WaitEngine(driver);
+        }
+        return waitEngine;
+    }
+
+    /**
+     * Get the element for a locator from the cache, or resolve it. A cached element is reused
+     * when it was resolved in the current epoch for the same or a stricter condition, and still
+     * satisfies the condition.
+     */
+    public WebElement resolve(By locator, WaitEngine.Condition condition, Supplier<WebElement> resolver) {
+        long currentEpoch = epoch;
+        if (cacheEnabled) {
+            CachedElement cached = elements.get(locator);
+            if (cached != null && cached.epoch == currentEpoch && cached.condition.compareTo(condition) >= 0) {
+                if (stillSatisfies(locator, cached.element, condition)) {
+                    if (metricsEnabled) {
+                        getStats(locator).hits.increment();
+                    }
+                    return cached.element;
+                }
+                elements.remove(locator, cached);
+            }
+        }
+        long startNanos = System.nanoTime();
+        WebElement element = resolver.get();
+        if (metricsEnabled) {
+            getStats(locator).lookups.record(System.nanoTime() - startNanos);
+        }
+        if (cacheEnabled && element != null) {
+            elements.put(locator, new CachedElement(element, condition, currentEpoch));
+        }
+        return element;
+    }
+
+    /**
+     * Check a cached element against the condition again; presence within the epoch needs no check
+     */
+    private boolean stillSatisfies(By locator, WebElement element, WaitEngine.Condition condition) {
+        try {
+            switch (condition) {
+                case PRESENT:
+                    return true;
+                case CLICKABLE:
+                    return element.isDisplayed() && element.isEnabled();
+                default:
+                    return element.isDisplayed();
+            }
+        } catch (StaleElementReferenceException e) {
+            if (metricsEnabled) {
+                getStats(locator).stale.increment();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Drop a cached element that went stale
+     */
+    public void evict(By locator) {
+        if (elements.remove(locator) != null && metricsEnabled) {
+            getStats(locator).stale.increment();
+        }
+        logger.debug("Evicted stale element: {}", locator);
+    }
+
+    /**
+     * End the current epoch: elements resolved before may no longer be valid
+     */
+    public void invalidate() {
+        epoch++;
+        elements.clear();
+    }
+
+    /**
+     * Listener that ends the epoch whenever a command may have changed the page
+     */
+    public WebDriverListener navigationListener() {
+        return new NavigationListener();
+    }
+
+    private static LocatorStats getStats(By locator) {
+        return statsByLocator.computeIfAbsent(locator.toString(), k -> new LocatorStats());
+    }
+
+    /**
+     * Per-locator lookup time and cache use, slowest total lookup time first
+     */
+    public static List<LocatorCacheStats> getReport() {
+        return statsByLocator.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(LocatorCacheStats::totalLookupMillis).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Log the slowest locators and write the report as JSON
+     */
+    public static void writeReport(Path reportFile, int topN) {
+        List<LocatorCacheStats> report = getReport();
+        if (report.isEmpty()) {
+            return;
+        }
+        long hits = report.stream().mapToLong(LocatorCacheStats::hits).sum();
+        long lookups = report.stream().mapToLong(LocatorCacheStats::lookups).sum();
+        logger.info("Locator cache: {} hits, {} lookups. Slowest locators:", hits, lookups);
+        report.stream().limit(topN).forEach(stats ->
+                logger.info("  {} - lookups: {}, hits: {}, stale: {}, p95: {} ms", stats.locator(), stats.lookups(),
+                        stats.hits(), stats.stale(), stats.p95LookupMillis()));
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        } catch (IOException e) {
+            logger.warn("Failed to write locator cache report: {}", e.getMessage());
+        }
+    }
+
+    public record LocatorCacheStats(String locator, long lookups, long hits, long stale, double totalLookupMillis,
+                                    double p95LookupMillis, double maxLookupMillis) {
+    }
+
+    private record CachedElement(WebElement element, WaitEngine.Condition condition, long epoch) {
+    }
+
+    /**
+     * Public so that EventFiringDecorator can call its methods reflectively
+     */
+    public class NavigationListener implements WebDriverListener {
+        @Override
+        public void afterGet(WebDriver driver, String url) {
+            invalidate();
+        }
+
+        @Override
+        public void afterClose(WebDriver driver) {
+            invalidate();
+        }
+
+        @Override
+        public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method,
+                                           Object[] args, Object result) {
+            invalidate();
+        }
+
+        @Override
+        public void afterAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method,
+                                              Object[] args, Object result) {
+            invalidate();
+        }
+
+        @Override
+        public void afterClick(WebElement element) {
+            invalidate();
+        }
+
+        @Override
+        public void afterSubmit(WebElement element) {
+            invalidate();
+        }
+
+        @Override
+        public void afterSendKeys(WebElement element, CharSequence... keysToSend) {
+            invalidate();
+        }
+
+        @Override
+        public void afterClear(WebElement element) {
+            invalidate();
+        }
+    }
+
+    private static class LocatorStats {
+        private final LatencyHistogram lookups = new LatencyHistogram();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder stale = new LongAdder();
+
+        private LocatorCacheStats snapshot(String locator) {
+            return new LocatorCacheStats(locator, lookups.getCount(), hits.sum(), stale.sum(),
+                    millis(lookups.getSumNanos()), millis(lookups.getPercentileNanos(95)),
+                    millis(lookups.getMaxNanos()));
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.pages;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import org.example.driver.ResourceBlocker;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Captures Navigation Timing and Web Vitals (FCP, LCP, CLS, long tasks) once per page
+ * visited, attaches them to the Allure report and appends them to a per-run NDJSON file.
+ */
+public class PageMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(PageMetrics.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Path METRICS_FILE = Paths.get("target", "page-metrics.ndjson");
+    private static BufferedWriter metricsWriter;
+
+    /**
+     * Installed before page scripts on Chromium, because long tasks are not kept in the
+     * performance timeline for observers created later
+     */
+    private static final String LONG_TASK_RECORDER_SCRIPT = """
+            window.__mbLongTasks = [];
+            try {
+              new PerformanceObserver(function (list) {
+                list.getEntries().forEach(function (e) { window.__mbLongTasks.push(e.duration); });
+              }).observe({type: 'longtask'});
+            } catch (e) {}
+            """;
+
+    // Resolves null when the current URL was already captured, e.g. by a repeated page load wait
+    private static final String CAPTURE_SCRIPT = """
+            var done = arguments[arguments.length - 1];
+            if (window.__mbMetricsCapturedFor === location.href) { done(null); return; }
+            window.__mbMetricsCapturedFor = location.href;
+            var nav = performance.getEntriesByType('navigation')[0];
+            var resources = performance.getEntriesByType('resource');
+            var metrics = {
+              page: location.origin + location.pathname,
+              softNavigation: !!nav && nav.name !== location.href,
+              ttfbMillis: nav ? Math.round(nav.responseStart) : null,
+              domContentLoadedMillis: nav ? Math.round(nav.domContentLoadedEventEnd) : null,
+              loadMillis: Math.round(nav && nav.loadEventEnd > 0 ? nav.loadEventEnd : performance.now()),
+              transferBytes: resources.reduce(function (sum, r) { return sum + (r.transferSize || 0); },
+                                              nav ? nav.transferSize : 0),
+              requests: resources.length + 1,
+              fcpMillis: null, lcpMillis: null, cls: null, longTasks: null, longTaskMillis: null
+            };
+            var fcp = performance.getEntriesByName('first-contentful-paint')[0];
+            if (fcp) metrics.fcpMillis = Math.round(fcp.startTime);
+            function observe(type, handle) {
+              try {
+                var observer = new PerformanceObserver(function () {});
+                observer.observe({type: type, buffered: true});
+                setTimeout(function () { handle(observer.takeRecords()); observer.disconnect(); }, 0);
+              } catch (e) {}
+            }
+            observe('largest-contentful-paint', function (entries) {
+              if (entries.length) metrics.lcpMillis = Math.round(entries[entries.length - 1].startTime);
+            });
+            observe('layout-shift', function (entries) {
+              metrics.cls = entries.filter(function (e) { return !e.hadRecentInput; })
+                                   .reduce(function (sum, e) { return sum + e.value; }, 0);
+            });
+            var longTasks = window.__mbLongTasks;
+            if (!longTasks) observe('longtask', function (entries) { longTasks = entries.map(function (e) { return e.duration; }); });
+            setTimeout(function () {
+              if (longTasks) {
+                metrics.longTasks = longTasks.length;
+                metrics.longTaskMillis = Math.round(longTasks.reduce(function (sum, d) { return sum + d; }, 0));
+              }
+              done(metrics);
+            }, 0);
+            """;
+
+    private PageMetrics() {
+    }
+
+    /**
+     * Start recording long tasks in every document the session loads; other metrics need no setup
+     */
+    public static void install(WebDriver driver) {
+        if (driver instanceof HasCdp) {
+            try {
+                ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", LONG_TASK_RECORDER_SCRIPT));
+            } catch (WebDriverException e) {
+                logger.debug("Long task recording unavailable: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Capture metrics for the page currently loaded, unless they were already captured for its URL
+     */
+    public static void capture(WebDriver driver) {
+        Map<?, ?> measured;
+        try {
+            measured = (Map<?, ?>) ((JavascriptExecutor) driver).executeAsyncScript(CAPTURE_SCRIPT);
+        } catch (WebDriverException e) {
+            logger.debug("Could not capture page metrics: {}", e.getMessage());
+            return;
+        }
+        if (measured == null) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(String.valueOf(measured.get("page")), ResourceBlocker.getActiveProfile(driver),
+                System.currentTimeMillis(), Boolean.TRUE.equals(measured.get("softNavigation")),
+                toLong(measured.get("ttfbMillis")), toLong(measured.get("domContentLoadedMillis")),
+                toLong(measured.get("loadMillis")), toLong(measured.get("transferBytes")),
+                toLong(measured.get("requests")), toLong(measured.get("fcpMillis")),
+                toLong(measured.get("lcpMillis")), toDouble(measured.get("cls")),
+                toLong(measured.get("longTasks")), toLong(measured.get("longTaskMillis")));
+
+        if (!snapshot.softNavigation()) {
+            PageWeight.record(snapshot.page(), snapshot.profile(), snapshot.transferBytes(),
+                    snapshot.requests(), snapshot.loadMillis());
+        }
+        logger.info("Page metrics for {}: load {} ms, FCP {} ms, LCP {} ms, CLS {}, long tasks {}",
+                snapshot.page(), snapshot.loadMillis(), snapshot.fcpMillis(), snapshot.lcpMillis(),
+                snapshot.cls(), snapshot.longTasks());
+        try {
+            String json = mapper.writeValueAsString(snapshot);
+            Allure.addAttachment("Page Metrics: " + snapshot.page(), "application/json", json, ".json");
+            append(json);
+        } catch (IOException e) {
+            logger.warn("Failed to write page metrics: {}", e.getMessage());
+        }
+    }
+
+    private static synchronized void append(String json) throws IOException {
+        if (metricsWriter == null) {
+            // One file per run: the first capture in this JVM replaces the previous run's file
+            Files.createDirectories(METRICS_FILE.getParent());
+            metricsWriter = Files.newBufferedWriter(METRICS_FILE, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        }
+        metricsWriter.write(json);
+        metricsWriter.newLine();
+        metricsWriter.flush();
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    /**
+     * Metrics of one page visit. Timings are in ms from navigation start; metrics the browser
+     * does not support are null. Navigation timings of a soft (client-side) navigation belong
+     * to the document it started from.
+     */
+    public record Snapshot(String page, String profile, long capturedAt, boolean softNavigation,
+                           Long ttfbMillis, Long domContentLoadedMillis, Long loadMillis,
+                           Long transferBytes, Long requests, Long fcpMillis, Long lcpMillis,
+                           Double cls, Long longTasks, Long longTaskMillis) {
+    }
+}
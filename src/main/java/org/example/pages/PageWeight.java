@@ -0,0 +1,115 @@
+package org.example.pages;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.driver.ResourceBlocker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregates bytes transferred and load time of each loaded page, grouped by page and
+ * resource blocking profile, so the savings of a profile can be compared with the
+ * unblocked page in the end-of-suite report.
+ */
+public class PageWeight {
+    private static final Logger logger = LoggerFactory.getLogger(PageWeight.class);
+    private static final Map<String, WeightStats> weightByPage = new ConcurrentHashMap<>();
+
+    private PageWeight() {
+    }
+
+    /**
+     * Record one page load. Transfer sizes of cross-origin resources read as 0
+     * unless they send Timing-Allow-Origin.
+     */
+    public static void record(String page, String profile, long bytes, long requests, long loadMillis) {
+        weightByPage.computeIfAbsent(page + "|" + profile, k -> new WeightStats()).add(bytes, requests, loadMillis);
+        logger.debug("Page {} [{}]: {} KB transferred, loaded in {} ms", page, profile, bytes / 1024, loadMillis);
+    }
+
+    /**
+     * Mean page weight per page and profile, with the saving against the unblocked page when it was also loaded
+     */
+    public static List<PageWeightEntry> getReport() {
+        Map<String, WeightStats> baselines = weightByPage.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith("|" + ResourceBlocker.FULL_PROFILE))
+                .collect(Collectors.toMap(entry -> pageOf(entry.getKey()), Map.Entry::getValue));
+        return weightByPage.entrySet().stream()
+                .map(entry -> {
+                    String page = pageOf(entry.getKey());
+                    String profile = entry.getKey().substring(page.length() + 1);
+                    return entry.getValue().snapshot(page, profile, baselines.get(page));
+                })
+                .sorted(Comparator.comparing(PageWeightEntry::page).thenComparing(PageWeightEntry::profile))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Log the page weight per profile and write the full report as JSON
+     */
+    public static void writeReport(Path reportFile) {
+        List<PageWeightEntry> report = getReport();
+        if (report.isEmpty()) {
+            return;
+        }
+        logger.info("Page weight by resource profile:");
+        report.forEach(entry -> logger.info("  {} [{}] - loads: {}, mean: {} KB in {} ms, saved: {} KB / {} ms",
+                entry.page(), entry.profile(), entry.loads(), entry.meanBytes() / 1024, entry.meanLoadMillis(),
+                entry.bytesSaved() / 1024, entry.loadMillisSaved()));
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+            logger.info("Page weight report written to {}", reportFile);
+        } catch (IOException e) {
+            logger.warn("Failed to write page weight report: {}", e.getMessage());
+        }
+    }
+
+    private static String pageOf(String key) {
+        return key.substring(0, key.lastIndexOf('|'));
+    }
+
+    /**
+     * Savings are relative to the same page loaded with the full profile, and 0 when it was not
+     */
+    public record PageWeightEntry(String page, String profile, long loads, long meanBytes, long meanRequests,
+                                  long meanLoadMillis, long bytesSaved, long loadMillisSaved) {
+    }
+
+    private static class WeightStats {
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder loadMillis = new LongAdder();
+
+        private void add(long pageBytes, long pageRequests, long pageLoadMillis) {
+            loads.increment();
+            bytes.add(pageBytes);
+            requests.add(pageRequests);
+            loadMillis.add(pageLoadMillis);
+        }
+
+        private long mean(LongAdder total) {
+            long count = loads.sum();
+            return count == 0 ? 0 : total.sum() / count;
+        }
+
+        private PageWeightEntry snapshot(String page, String profile, WeightStats baseline) {
+            long meanBytes = mean(bytes);
+            long meanLoadMillis = mean(loadMillis);
+            return new PageWeightEntry(page, profile, loads.sum(), meanBytes, mean(requests), meanLoadMillis,
+                    baseline != null ? baseline.mean(baseline.bytes) - meanBytes : 0,
+                    baseline != null ? baseline.mean(baseline.loadMillis) - meanLoadMillis : 0);
+        }
+    }
+}
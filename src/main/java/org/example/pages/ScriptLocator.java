@@ -0,0 +1,83 @@
+package org.example.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates Selenium locators into arguments for browser-side element lookups,
+ * so waits and bulk reads can resolve elements without extra driver round-trips.
+ */
+final class ScriptLocator {
+
+    /**
+     * JavaScript helpers shared by browser-side scripts: mbFind(using, value, root) and mbVisible(element)
+     */
+    static final String HELPERS = """
+            function mbFind(using, value, root) {
+              root = root || document;
+              var nodes;
+              switch (using) {
+                case 'css selector': nodes = root.querySelectorAll(value); break;
+                case 'id': nodes = root.querySelectorAll('#' + CSS.escape(value)); break;
+                case 'class name': nodes = root.querySelectorAll('.' + CSS.escape(value)); break;
+                case 'name': nodes = root.querySelectorAll('[name="' + value.replace(/["\\\\]/g, '\\\\$&') + '"]'); break;
+                case 'tag name': nodes = root.getElementsByTagName(value); break;
+                case 'xpath':
+                  var doc = root.ownerDocument || root;
+                  var snapshot = doc.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  nodes = [];
+                  for (var i = 0; i < snapshot.snapshotLength; i++) nodes.push(snapshot.snapshotItem(i));
+                  break;
+                case 'link text':
+                case 'partial link text':
+                  nodes = Array.prototype.filter.call(root.getElementsByTagName('a'), function (a) {
+                    var text = (a.innerText || '').trim();
+                    return using === 'link text' ? text === value : text.indexOf(value) !== -1;
+                  });
+                  break;
+                default: throw new Error('Unsupported locator strategy: ' + using);
+              }
+              return Array.prototype.filter.call(nodes, function (n) { return n.nodeType === 1; });
+            }
+            function mbVisible(el) {
+              if (!el || !el.isConnected) return false;
+              if (el.checkVisibility && !el.checkVisibility({opacityProperty: true, visibilityProperty: true})) return false;
+              var style = window.getComputedStyle(el);
+              if (style.display === 'none' || style.visibility === 'hidden' || style.visibility === 'collapse') return false;
+              var rect = el.getBoundingClientRect();
+              return rect.width > 0 && rect.height > 0;
+            }
+            """;
+
+    private ScriptLocator() {
+    }
+
+    /**
+     * Get the (strategy, value) script arguments for a locator, or null if it cannot be evaluated in the browser
+     */
+    static Object[] toScriptArgs(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return new Object[]{parameters.using(), String.valueOf(parameters.value())};
+    }
+
+    /**
+     * Get [strategy, value] script arguments for each of the locators, or null if any of them
+     * cannot be evaluated in the browser
+     */
+    static List<List<String>> toScriptAlternatives(List<By> alternatives) {
+        List<List<String>> scriptAlternatives = new ArrayList<>(alternatives.size());
+        for (By alternative : alternatives) {
+            Object[] scriptArgs = toScriptArgs(alternative);
+            if (scriptArgs == null) {
+                return null;
+            }
+            scriptAlternatives.add(List.of((String) scriptArgs[0], (String) scriptArgs[1]));
+        }
+        return scriptAlternatives;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.pages;
+
+/**
+ * Whether an expected text was found on the page, and whether any element showing it is displayed
+ */
+public record TextPresence(boolean present, boolean displayed) {
+}
@@ -0,0 +1,43 @@
+package org.example.pages;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One row of the spot trading table: Pair | Price | 24h Change | High | Low | Last 7 days
+ */
+public record TradingPairRow(String pair, String price, String change, String high, String low,
+                             boolean chartPresent) {
+
+    /**
+     * Cell selectors relative to a table row, keyed by field name
+     */
+    static final Map<String, String> FIELDS = Map.of(
+            "pair", "td:nth-child(2)",
+            "price", "td:nth-child(3)",
+            "change", "td:nth-child(4)",
+            "high", "td:nth-child(5)",
+            "low", "td:nth-child(6)",
+            "chart", "td:nth-child(7)");
+
+    static TradingPairRow fromFields(Map<String, String> fields) {
+        return new TradingPairRow(fields.get("pair"), fields.get("price"), fields.get("change"),
+                fields.get("high"), fields.get("low"), fields.get("chart") != null);
+    }
+
+    /**
+     * Row values keyed by column name, with "chart" set to "Present" when the chart column exists
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("pair", pair);
+        data.put("price", price);
+        data.put("change", change);
+        data.put("high", high);
+        data.put("low", low);
+        if (chartPresent) {
+            data.put("chart", "Present");
+        }
+        return data;
+    }
+}
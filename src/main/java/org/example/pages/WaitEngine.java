@@ -0,0 +1,460 @@
+package org.example.pages;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.config.ConfigReader;
+import org.example.utils.Telemetry;
+import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Event-driven wait engine behind BasePage waits.
+ * Each wait is a single asynchronous script call that settles in the browser through a
+ * MutationObserver as soon as the condition holds, instead of polling the driver every 500 ms.
+ * Observed latency is aggregated per locator for the end-of-suite report.
+ * Waits on the configured explicit_wait and page_load timeouts use timeouts learned by {@link WaitHistory},
+ * kept apart per browser, base URL host and condition; a timeout passed by the caller is used as given.
+ */
+public class WaitEngine {
+    private static final Logger logger = LoggerFactory.getLogger(WaitEngine.class);
+    private static final Map<String, LatencyStats> latencyByLocator = new ConcurrentHashMap<>();
+
+    private static final String AWAIT_ELEMENT_SCRIPT = ScriptLocator.HELPERS + """
+            var alternatives = arguments[0], condition = arguments[1], timeoutMs = arguments[2];
+            var done = arguments[arguments.length - 1];
+            // Alternatives of a LocatorChain are raced: the first one in order that satisfies the condition wins
+            function evaluate() {
+              for (var i = 0; i < alternatives.length; i++) {
+                var result = evaluateOne(alternatives[i][0], alternatives[i][1]);
+                if (result) return {index: i, value: result};
+              }
+              return null;
+            }
+            function evaluateOne(using, value) {
+              var elements = mbFind(using, value);
+              if (condition === 'all_visible') {
+                return elements.length > 0 && elements.every(mbVisible) ? elements : null;
+              }
+              var first = elements[0];
+              if (!first) return null;
+              if (condition === 'present') return first;
+              if (!mbVisible(first)) return null;
+              if (condition === 'clickable' && first.disabled) return null;
+              return first;
+            }
+            var observer, interval, timer, settled = false;
+            function finish(result) {
+              if (settled) return;
+              settled = true;
+              if (observer) observer.disconnect();
+              clearInterval(interval);
+              clearTimeout(timer);
+              done(result);
+            }
+            function check() {
+              try {
+                var result = evaluate();
+                if (result) finish(result);
+              } catch (e) {
+                finish({error: String(e && e.message || e)});
+              }
+            }
+            check();
+            if (!settled) {
+              observer = new MutationObserver(check);
+              observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+              // Style-only changes such as CSS transitions do not fire mutations
+              interval = setInterval(check, 100);
+              timer = setTimeout(function () { finish(null); }, timeoutMs);
+            }
+            """;
+
+    private static final String AWAIT_DOCUMENT_COMPLETE_SCRIPT = """
+            var timeoutMs = arguments[0], done = arguments[arguments.length - 1];
+            if (document.readyState === 'complete') { done(true); return; }
+            var timer = setTimeout(function () { done(false); }, timeoutMs);
+            document.addEventListener('readystatechange', function () {
+              if (document.readyState === 'complete') { clearTimeout(timer); done(true); }
+            });
+            """;
+
+    private static final String AWAIT_TEXTS_SCRIPT = ScriptLocator.HELPERS + """
+            var texts = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];
+            // Like //*[contains(text(), ...)]: match text nodes, prefer a displayed element over a hidden one
+            function evaluate() {
+              var matches = {}, remaining = texts.length;
+              texts.forEach(function (text) { matches[text] = {present: false, displayed: false}; });
+              var root = document.body || document.documentElement;
+              var walker = document.createTreeWalker(root, NodeFilter.SHOW_TEXT);
+              for (var node = walker.nextNode(); node && remaining > 0; node = walker.nextNode()) {
+                var value = node.nodeValue;
+                if (!value || !value.trim()) continue;
+                for (var i = 0; i < texts.length; i++) {
+                  var match = matches[texts[i]];
+                  if (match.displayed || value.indexOf(texts[i]) === -1) continue;
+                  match.present = true;
+                  if (mbVisible(node.parentElement)) {
+                    match.displayed = true;
+                    remaining--;
+                  }
+                }
+              }
+              return {done: remaining === 0, matches: texts.map(function (text) { return matches[text]; })};
+            }
+            var observer, interval, timer, settled = false;
+            function finish(result) {
+              if (settled) return;
+              settled = true;
+              if (observer) observer.disconnect();
+              clearInterval(interval);
+              clearTimeout(timer);
+              done(result);
+            }
+            function check() {
+              var result = evaluate();
+              if (result.done) finish(result);
+            }
+            check();
+            if (!settled) {
+              observer = new MutationObserver(check);
+              observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+              interval = setInterval(check, 100);
+              // Report what was found so far when the time is up
+              timer = setTimeout(function () { finish(evaluate()); }, timeoutMs);
+            }
+            """;
+
+    public enum Condition {
+        PRESENT, VISIBLE, CLICKABLE, ALL_VISIBLE
+    }
+
+    private final WebDriver driver;
+    private final Duration maxScriptSlice;
+    private final WaitHistory waitHistory = WaitHistory.getInstance();
+    private final Duration explicitWait;
+    private final Duration pageLoad;
+    // Browser and base URL host: latencies of one environment say nothing about another
+    private final String environment;
+
+    public WaitEngine(WebDriver driver) {
+        this.driver = driver;
+        // Keep each async script call safely inside the driver's script timeout
+        int scriptTimeout = ConfigReader.getConfig().getTimeouts().getScriptTimeout();
+        this.maxScriptSlice = Duration.ofSeconds(Math.max(1, scriptTimeout - 1));
+        this.explicitWait = Duration.ofSeconds(ConfigReader.getConfig().getTimeouts().getExplicitWait());
+        this.pageLoad = Duration.ofSeconds(ConfigReader.getConfig().getTimeouts().getPageLoad());
+        this.environment = waitHistory != null ? getEnvironment(driver) : null;
+    }
+
+    private static String getEnvironment(WebDriver driver) {
+        String browser = driver instanceof HasCapabilities
+                ? ((HasCapabilities) driver).getCapabilities().getBrowserName()
+                : ConfigReader.getBrowser();
+        String baseUrl = ConfigReader.getBaseUrl();
+        String host;
+        try {
+            host = URI.create(baseUrl).getHost();
+        } catch (IllegalArgumentException e) {
+            host = null;
+        }
+        return browser + "@" + (host != null ? host : baseUrl);
+    }
+
+    /**
+     * Wait for the first element matching the locator to satisfy the condition within the configured explicit wait,
+     * or the timeout learned for it
+     */
+    public WebElement awaitElement(By locator, Condition condition) {
+        return (WebElement) await(locator, condition, explicitWait, true);
+    }
+
+    /**
+     * Wait for the first element matching the locator to satisfy the condition within the given timeout
+     */
+    public WebElement awaitElement(By locator, Condition condition, Duration timeout) {
+        return (WebElement) await(locator, condition, timeout, false);
+    }
+
+    /**
+     * Wait for all elements matching the locator to be visible within the configured explicit wait,
+     * or the timeout learned for it
+     */
+    @SuppressWarnings("unchecked")
+    public List<WebElement> awaitAllVisible(By locator) {
+        return (List<WebElement>) await(locator, Condition.ALL_VISIBLE, explicitWait, true);
+    }
+
+    /**
+     * Wait for all elements matching the locator to be visible within the given timeout
+     */
+    @SuppressWarnings("unchecked")
+    public List<WebElement> awaitAllVisible(By locator, Duration timeout) {
+        return (List<WebElement>) await(locator, Condition.ALL_VISIBLE, timeout, false);
+    }
+
+    /**
+     * Wait for document.readyState of the given page to become complete within the configured page load
+     * timeout, or the timeout learned for it
+     */
+    public void awaitDocumentComplete(String page) {
+        String name = "document.readyState: " + page;
+        String key = historyKey(name);
+        Duration timeout = getTimeout(key, pageLoad);
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + timeout.toNanos();
+        boolean complete = Telemetry.time(Telemetry.Phase.WAIT, () -> awaitDocumentComplete(deadline));
+        record(name, key, System.nanoTime() - startNanos, complete, timeout, pageLoad);
+        if (!complete) {
+            throw new TimeoutException("Page did not finish loading within " + timeout.toMillis() + " ms");
+        }
+    }
+
+    /**
+     * Wait until every text is displayed in a text node of the page, or the configured explicit wait passes,
+     * and report presence and visibility per text in the order given.
+     * Not adaptive: a shortened timeout would turn a slow page into an assertion failure, which is never retried.
+     */
+    public Map<String, TextPresence> awaitTexts(List<String> texts) {
+        String name = "texts " + texts;
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + explicitWait.toNanos();
+        Map<?, ?> result = Telemetry.time(Telemetry.Phase.WAIT, () -> awaitTextsInBrowser(texts, deadline));
+        boolean satisfied = result != null && Boolean.TRUE.equals(result.get("done"));
+        record(name, null, System.nanoTime() - startNanos, satisfied, explicitWait, explicitWait);
+
+        List<?> matches = result != null ? (List<?>) result.get("matches") : null;
+        Map<String, TextPresence> presence = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            Map<?, ?> match = matches != null ? (Map<?, ?>) matches.get(i) : Map.of();
+            presence.put(texts.get(i), new TextPresence(Boolean.TRUE.equals(match.get("present")),
+                    Boolean.TRUE.equals(match.get("displayed"))));
+        }
+        return presence;
+    }
+
+    private Map<?, ?> awaitTextsInBrowser(List<String> texts, long deadline) {
+        Map<?, ?> result = null;
+        do {
+            long sliceMillis = Math.min(remainingMillis(deadline), maxScriptSlice.toMillis());
+            try {
+                result = (Map<?, ?>) ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_TEXTS_SCRIPT,
+                        texts, sliceMillis);
+            } catch (JavascriptException | ScriptTimeoutException e) {
+                // Navigation discards the pending script; evaluate again on the new document
+                logger.debug("Wait for texts {} interrupted: {}", texts, e.getMessage());
+                continue;
+            }
+            if (Boolean.TRUE.equals(result.get("done"))) {
+                break;
+            }
+        } while (System.nanoTime() < deadline);
+        return result;
+    }
+
+    private boolean awaitDocumentComplete(long deadline) {
+        while (System.nanoTime() < deadline) {
+            long sliceMillis = Math.min(remainingMillis(deadline), maxScriptSlice.toMillis());
+            try {
+                if (Boolean.TRUE.equals(((JavascriptExecutor) driver)
+                        .executeAsyncScript(AWAIT_DOCUMENT_COMPLETE_SCRIPT, sliceMillis))) {
+                    return true;
+                }
+            } catch (JavascriptException | ScriptTimeoutException e) {
+                // The document was replaced while waiting; retry against the new one
+                logger.debug("Document changed while waiting for load: {}", e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private Object await(By locator, Condition condition, Duration fixedTimeout, boolean adaptive) {
+        String key = adaptive ? historyKey(condition.name().toLowerCase() + " " + locator) : null;
+        Duration timeout = key != null ? getTimeout(key, fixedTimeout) : fixedTimeout;
+        long startNanos = System.nanoTime();
+        Object result = null;
+        try {
+            result = Telemetry.time(Telemetry.Phase.WAIT, () -> awaitAny(locator, condition, timeout, startNanos));
+        } finally {
+            record(locator.toString(), key, System.nanoTime() - startNanos, result != null, timeout, fixedTimeout);
+        }
+        if (result == null) {
+            throw new TimeoutException(String.format("Expected condition %s failed for %s (waited %d ms)",
+                    condition, locator, (System.nanoTime() - startNanos) / 1_000_000));
+        }
+        return result;
+    }
+
+    private Object awaitAny(By locator, Condition condition, Duration timeout, long startNanos) {
+        // Declaration order: a remembered fallback must not win over a repaired primary
+        List<By> alternatives = locator instanceof LocatorChain
+                ? ((LocatorChain) locator).getDeclaredAlternatives()
+                : List.of(locator);
+        List<List<String>> scriptAlternatives = ScriptLocator.toScriptAlternatives(alternatives);
+        if (scriptAlternatives != null) {
+            return awaitInBrowser(locator, alternatives, scriptAlternatives, condition, startNanos + timeout.toNanos());
+        }
+        return awaitByPolling(locator, condition, timeout);
+    }
+
+    private Object awaitInBrowser(By locator, List<By> alternatives, List<List<String>> scriptAlternatives,
+                                  Condition condition, long deadline) {
+        String conditionName = condition.name().toLowerCase();
+        do {
+            long sliceMillis = Math.min(remainingMillis(deadline), maxScriptSlice.toMillis());
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_ELEMENT_SCRIPT,
+                        scriptAlternatives, conditionName, sliceMillis);
+            } catch (JavascriptException | ScriptTimeoutException e) {
+                // Navigation discards the pending script; evaluate again on the new document
+                logger.debug("Wait for {} interrupted: {}", locator, e.getMessage());
+                continue;
+            }
+            if (result instanceof Map) {
+                Map<?, ?> match = (Map<?, ?>) result;
+                if (match.containsKey("error")) {
+                    throw new InvalidSelectorException("Cannot evaluate " + locator + ": " + match.get("error"));
+                }
+                if (locator instanceof LocatorChain) {
+                    ((LocatorChain) locator).recordMatch(alternatives.get(((Number) match.get("index")).intValue()));
+                }
+                return match.get("value");
+            }
+        } while (System.nanoTime() < deadline);
+        return null;
+    }
+
+    private Object awaitByPolling(By locator, Condition condition, Duration timeout) {
+        try {
+            return new WebDriverWait(driver, timeout).until(toExpectedCondition(locator, condition));
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    private static ExpectedCondition<?> toExpectedCondition(By locator, Condition condition) {
+        switch (condition) {
+            case PRESENT:
+                return ExpectedConditions.presenceOfElementLocated(locator);
+            case VISIBLE:
+                return ExpectedConditions.visibilityOfElementLocated(locator);
+            case CLICKABLE:
+                return ExpectedConditions.elementToBeClickable(locator);
+            default:
+                return ExpectedConditions.visibilityOfAllElementsLocatedBy(locator);
+        }
+    }
+
+    /**
+     * Key of a wait in the wait history, or null when timeouts are not learned
+     */
+    private String historyKey(String wait) {
+        return waitHistory != null ? environment + " " + wait : null;
+    }
+
+    /**
+     * Get the timeout learned from earlier runs for a wait, or the fixed timeout
+     */
+    private Duration getTimeout(String key, Duration fixedTimeout) {
+        return key != null ? waitHistory.getTimeout(key, fixedTimeout) : fixedTimeout;
+    }
+
+    private static long remainingMillis(long deadlineNanos) {
+        return Math.max(1, (deadlineNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    private void record(String locator, String historyKey, long elapsedNanos, boolean satisfied, Duration timeout,
+                        Duration fixedTimeout) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        latencyByLocator.computeIfAbsent(locator, k -> new LatencyStats()).add(elapsedMillis, satisfied);
+        if (historyKey != null) {
+            waitHistory.record(historyKey, elapsedMillis, satisfied, timeout, fixedTimeout);
+        }
+        logger.debug("Waited {} ms for {} (satisfied: {}, timeout: {} ms)", elapsedMillis, locator, satisfied,
+                timeout.toMillis());
+    }
+
+    /**
+     * Per-locator wait latency observed so far, slowest first
+     */
+    public static List<LocatorLatency> getLatencyReport() {
+        return latencyByLocator.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(LocatorLatency::totalMillis).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Log the slowest locators and write the full report as JSON
+     */
+    public static void writeLatencyReport(Path reportFile, int topN) {
+        List<LocatorLatency> report = getLatencyReport();
+        if (report.isEmpty()) {
+            return;
+        }
+        logger.info("Slowest waits by locator:");
+        report.stream().limit(topN).forEach(latency ->
+                logger.info("  {} - waits: {}, timeouts: {}, mean: {} ms, max: {} ms",
+                        latency.locator(), latency.waits(), latency.timeouts(), latency.meanMillis(), latency.maxMillis()));
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+            logger.info("Wait latency report written to {}", reportFile);
+        } catch (IOException e) {
+            logger.warn("Failed to write wait latency report: {}", e.getMessage());
+        }
+    }
+
+    public record LocatorLatency(String locator, long waits, long timeouts, long totalMillis,
+                                 long meanMillis, long maxMillis) {
+    }
+
+    private static class LatencyStats {
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+        private void add(long elapsedMillis, boolean satisfied) {
+            waits.increment();
+            if (!satisfied) {
+                timeouts.increment();
+            }
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulate(elapsedMillis);
+        }
+
+        private LocatorLatency snapshot(String locator) {
+            long count = waits.sum();
+            long total = totalMillis.sum();
+            return new LocatorLatency(locator, count, timeouts.sum(), total,
+                    count == 0 ? 0 : total / count, maxMillis.get());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.pages;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wait latencies of previous runs per locator and page, used to derive a timeout for each wait:
+ * a high percentile of the recorded latencies times a safety factor, kept between a floor and a ceiling.
+ * Timeouts are derived from the history loaded at startup only, so they do not change during a run.
+ * A wait that times out on a learned timeout shorter than the fixed one is recorded with the time it
+ * waited, so a too tight timeout grows on the next run, and uses the fixed timeout for the rest of this run,
+ * so a retry of the test can still pass.
+ */
+public class WaitHistory {
+    private static final Logger logger = LoggerFactory.getLogger(WaitHistory.class);
+    // Most recent latencies kept per key
+    private static final int MAX_SAMPLES = 100;
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static volatile WaitHistory instance;
+
+    private final Path file;
+    private final TestConfig.AdaptiveWaits config;
+    private final Map<String, List<Long>> history;
+    private final Map<String, Duration> learnedTimeouts = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> currentRun = new ConcurrentHashMap<>();
+
+    private WaitHistory(Path file, TestConfig.AdaptiveWaits config, Map<String, List<Long>> history) {
+        this.file = file;
+        this.config = config;
+        this.history = history;
+    }
+
+    /**
+     * Get the history configured in test-config.yaml, or null when waits use the fixed timeouts
+     */
+    public static WaitHistory getInstance() {
+        String historyFile = ConfigReader.getWaitHistoryFile();
+        if (historyFile == null || historyFile.trim().isEmpty()) {
+            return null;
+        }
+        if (instance == null) {
+            synchronized (WaitHistory.class) {
+                if (instance == null) {
+                    instance = load(Paths.get(historyFile.trim()), ConfigReader.getConfig().getAdaptiveWaits());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static WaitHistory load(Path file, TestConfig.AdaptiveWaits config) {
+        Map<String, List<Long>> history = new TreeMap<>();
+        if (Files.exists(file)) {
+            try {
+                history.putAll(mapper.readValue(file.toFile(), new TypeReference<Map<String, List<Long>>>() {
+                }));
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable wait history {}: {}", file, e.getMessage());
+            }
+        }
+        return new WaitHistory(file, config, history);
+    }
+
+    /**
+     * Get the timeout for a wait, or the fixed timeout while too few latencies are recorded for it
+     */
+    public Duration getTimeout(String key, Duration fixedTimeout) {
+        Duration learned = learnedTimeouts.computeIfAbsent(key, this::learnTimeout);
+        return learned.isZero() ? fixedTimeout : learned;
+    }
+
+    private Duration learnTimeout(String key) {
+        List<Long> samples = history.get(key);
+        if (samples == null || samples.size() < Math.max(1, config.getMinSamples())) {
+            return Duration.ZERO;
+        }
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(config.getPercentile() / 100.0 * sorted.size());
+        long percentileMillis = sorted.get(Math.min(sorted.size(), Math.max(1, rank)) - 1);
+        long timeoutMillis = Math.round(percentileMillis * config.getSafetyFactor());
+        timeoutMillis = Math.max(timeoutMillis, config.getFloorSeconds() * 1_000L);
+        timeoutMillis = Math.min(timeoutMillis, config.getCeilingSeconds() * 1_000L);
+        logger.debug("Learned timeout for {}: {} ms (p{} of {} waits: {} ms)", key, timeoutMillis,
+                config.getPercentile(), sorted.size(), percentileMillis);
+        return Duration.ofMillis(timeoutMillis);
+    }
+
+    /**
+     * Record the latency of a wait. Timeouts are only recorded when the wait was cut short by a learned timeout.
+     */
+    public void record(String key, long elapsedMillis, boolean satisfied, Duration timeout, Duration fixedTimeout) {
+        if (!satisfied) {
+            if (timeout.compareTo(fixedTimeout) >= 0) {
+                return;
+            }
+            // Zero stands for the fixed timeout
+            if (!Duration.ZERO.equals(learnedTimeouts.put(key, Duration.ZERO))) {
+                logger.warn("Learned timeout of {} ms was too short for {}; using the fixed {} ms for the rest of the run",
+                        timeout.toMillis(), key, fixedTimeout.toMillis());
+            }
+        }
+        List<Long> samples = currentRun.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()));
+        samples.add(elapsedMillis);
+    }
+
+    /**
+     * Append the latencies of the current run to the history and write it to disk
+     */
+    public synchronized void save() {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        currentRun.forEach((key, samples) -> {
+            List<Long> merged = new ArrayList<>(history.getOrDefault(key, List.of()));
+            synchronized (samples) {
+                merged.addAll(samples);
+            }
+            history.put(key, new ArrayList<>(merged.subList(Math.max(0, merged.size() - MAX_SAMPLES), merged.size())));
+        });
+        currentRun.clear();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmpFile = Files.createTempFile(file.toAbsolutePath().getParent(), "wait-latency", ".tmp");
+            mapper.writeValue(tmpFile.toFile(), history);
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Wait latencies saved to {}", file);
+        } catch (IOException e) {
+            logger.warn("Failed to save wait latencies: {}", e.getMessage());
+        }
+    }
+}
@@ -16,31 +16,48 @@ public class WhyMultiBankPage extends BasePage {
     }
 
     // Banner Section
-    private final By bannerTitle = By.xpath("/html/body/div[1]/div[2]/div/div/div[1]/div/section/div/div[1]/div[3]/div[1]/div/h2");
-    private final By bannerDescription = By.xpath("/html/body/div[1]/div[2]/div/div/div[1]/div/section/div/div[1]/div[3]/div[1]/div/p");
+    // Positional and hashed-class locators are chains: fallbacks anchor on neighbouring content instead
+    private final By bannerTitle = LocatorChain.of(
+            By.xpath("/html/body/div[1]/div[2]/div/div/div[1]/div/section/div/div[1]/div[3]/div[1]/div/h2"),
+            By.xpath("(//section//h2[following-sibling::p])[1]"));
+    private final By bannerDescription = LocatorChain.of(
+            By.xpath("/html/body/div[1]/div[2]/div/div/div[1]/div/section/div/div[1]/div[3]/div[1]/div/p"),
+            By.xpath("(//section//h2/following-sibling::p)[1]"));
 
     // Portfolio Section
     private final By portfolioTitle = By.cssSelector("h2[class='text-white heading-2'] div p");
     private final By portfolioDescription = By.xpath("//p[@class='text-secondary font-size-4 paragraph']");
-    private final By portfolioButton = By.xpath("//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//a[1]//button[1]");
+    private final By portfolioButton = LocatorChain.of(
+            By.xpath("//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//div[1]//a[1]//button[1]"),
+            By.xpath("//p[@class='text-secondary font-size-4 paragraph']/following-sibling::*[.//button][1]//button"),
+            By.xpath("//button[normalize-space()='Get Started']"));
 
     // Trading Section
     private final By tradingTitle = By.xpath("//h3[normalize-space()='Catch Your Next Trading Opportunity']");
     private final By tradingButton = By.xpath("(//span[contains(text(),'See More')])[1]");
-    private final By tradingSpeedTitle = By.xpath("//body/div[@id='__next']/div[2]/div[1]/div[1]/div[1]/div[1]/div[1]/div[3]/div[1]/div[1]/div[1]/div[1]/div[1]/h2[1]/div[1]/p[1]");
+    private final By tradingSpeedTitle = LocatorChain.of(
+            By.xpath("//body/div[@id='__next']/div[2]/div[1]/div[1]/div[1]/div[1]/div[1]/div[3]/div[1]/div[1]/div[1]/div[1]/div[1]/h2[1]/div[1]/p[1]"),
+            By.xpath("//p[contains(text(),'Experience lightning-fast trading speed with Multi')]/preceding-sibling::h2[1]//p"));
     private final By tradingSpeedDescription = By.xpath("//p[contains(text(),'Experience lightning-fast trading speed with Multi')]");
 
     // Payment Methods Section
-    private final By paymentMethodsTitle = By.xpath("//div[1]//div[1]//div[1]//div[1]//div[1]//div[3]//div[1]//div[1]//div[2]//div[1]//div[1]//h2[1]//div[1]//p[1]");
+    private final By paymentMethodsTitle = LocatorChain.of(
+            By.xpath("//div[1]//div[1]//div[1]//div[1]//div[1]//div[3]//div[1]//div[1]//div[2]//div[1]//div[1]//h2[1]//div[1]//p[1]"),
+            By.xpath("//p[contains(text(),'At MultiBank io you can deposit USD and EURO, into')]/preceding-sibling::h2[1]//p"));
     private final By paymentMethodsDescription = By.xpath("//p[contains(text(),'At MultiBank io you can deposit USD and EURO, into')]");
 
     // Panic Sell Section
-    private final By panicSellTitle = By.xpath("//div[1]//div[1]//div[1]//div[1]//div[1]//div[3]//div[1]//div[1]//div[3]//div[1]//div[1]//h2[1]//div[1]//p[1]");
+    private final By panicSellTitle = LocatorChain.of(
+            By.xpath("//div[1]//div[1]//div[1]//div[1]//div[1]//div[3]//div[1]//div[1]//div[3]//div[1]//div[1]//h2[1]//div[1]//p[1]"),
+            By.xpath("//p[contains(text(),'Quickly sell all your low value cryptocurrencies t')]/preceding-sibling::h2[1]//p"));
     private final By panicSellDescription = By.xpath("//p[contains(text(),'Quickly sell all your low value cryptocurrencies t')]");
 
     // Convert Section
     private final By convertTitle = By.xpath("//p[contains(@class,'text-gold')]");
-    private final By convertDescription = By.xpath("//div[contains(@class,'font-size-4 text-secondary main-cards_customDescription__Tzkws')]");
+    private final By convertDescription = LocatorChain.of(
+            By.xpath("//div[contains(@class,'font-size-4 text-secondary main-cards_customDescription__Tzkws')]"),
+            By.cssSelector("div[class*='main-cards_customDescription']"),
+            By.xpath("//p[contains(@class,'text-gold')]/following-sibling::div[1]"));
 
     // Advantages Section
     private final By advantagesTitle = By.xpath("//h2[normalize-space()='Our Advantages']");
@@ -57,7 +74,10 @@ public class WhyMultiBankPage extends BasePage {
     private final By advantageSupportDescription = By.xpath("//p[contains(text(),'Enjoy assistance from our 24/7/365 customer servic')]");
 
     // Start Trading Section
-    private final By startTradingDescription = By.xpath("//div[@class='StartTradingNow_startTradingDescription__e_Xv7']");
+    private final By startTradingDescription = LocatorChain.of(
+            By.xpath("//div[@class='StartTradingNow_startTradingDescription__e_Xv7']"),
+            By.cssSelector("div[class*='StartTradingNow_startTradingDescription']"),
+            By.xpath("//h2[normalize-space()='Start Trading Now']/following-sibling::div[1]"));
 
     @Step("Verify Why MultiBank page is loaded")
     public boolean isPageLoaded() {
@@ -0,0 +1,91 @@
+package org.example.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes failure artifacts to Allure and disk on a background thread, so test threads
+ * can release their driver as soon as the screenshot bytes are taken.
+ * The queue is bounded; when it is full the submitting thread writes the artifact itself.
+ */
+public class ArtifactWriter {
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactWriter.class);
+    private static final int QUEUE_CAPACITY = 32;
+
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+        Thread thread = new Thread(runnable, "artifact-writer");
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final Object flushLock = new Object();
+
+    /**
+     * Attach a PNG screenshot to the current Allure test or fixture and save it to the screenshot store.
+     * The attachment is registered on the calling thread, because Allure tracks the running
+     * test per thread; only the file writes happen in the background.
+     */
+    public static void submitScreenshot(String attachmentName, byte[] png, String testName) {
+        if (png == null || png.length == 0) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        ScreenshotStore store = ScreenshotStore.getInstance();
+        String source = lifecycle.prepareAttachment(attachmentName, store.getMimeType(), store.getExtension());
+        submit(() -> {
+            // Allure gets the re-encoded image from the store, not the raw PNG
+            ScreenshotStore.StoredScreenshot stored = store.store(png, testName);
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(stored.content()));
+        });
+    }
+
+    /**
+     * Wait until every submitted artifact has been written
+     */
+    public static void flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (flushLock) {
+            while (pending.get() > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    logger.warn("{} failure artifacts were not written within {} s", pending.get(), timeout.toSeconds());
+                    return;
+                }
+                try {
+                    flushLock.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void submit(Runnable write) {
+        pending.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                write.run();
+            } catch (RuntimeException e) {
+                logger.error("Failed to write failure artifact", e);
+            } finally {
+                if (pending.decrementAndGet() == 0) {
+                    synchronized (flushLock) {
+                        flushLock.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,360 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Reusable code point counter backing {@link StringCharFrequency}.
+ * Distinct code points get an index in order of first appearance; counts live in primitive arrays
+ * under that index. ASCII is looked up in a direct table, everything else in an open-addressing
+ * table keyed by code point, so counting allocates nothing once the arrays have grown.
+ * The offset where each code point first occurred is kept too, so counters filled from different
+ * parts of one input can be merged back into first-appearance order.
+ * Not thread-safe: use one instance per thread and {@link #reset()} it between inputs.
+ */
+public final class CodePointCounter {
+    private static final int ASCII = 128;
+    private static final int EMPTY = -1;
+    private static final int REPLACEMENT = 0xFFFD;
+
+    // Order index + 1 for each ASCII character, 0 when not seen yet
+    private final int[] asciiIndex = new int[ASCII];
+    // Open-addressing table for code points >= 128: key and order index per slot
+    private int[] tableKeys = newTable(16);
+    private int[] tableIndex = new int[16];
+    private int tableSize;
+
+    // Per order index: the code point, its count and the offset of its first occurrence
+    private int[] codePoints = new int[32];
+    private long[] counts = new long[32];
+    private long[] firstOffsets = new long[32];
+    private int size;
+
+    /**
+     * Count every code point of the input. Unpaired surrogates are counted as they are.
+     */
+    public void add(CharSequence input) {
+        int length = input.length();
+        int[] ascii = asciiIndex;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c < ASCII) {
+                int index = ascii[c];
+                if (index == 0) {
+                    index = register(c, i) + 1;
+                    ascii[c] = index;
+                }
+                counts[index - 1]++;
+                continue;
+            }
+            int offset = i;
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length) {
+                char low = input.charAt(i + 1);
+                if (Character.isLowSurrogate(low)) {
+                    codePoint = Character.toCodePoint(c, low);
+                    i++;
+                }
+            }
+            // Look up first: registering a new code point may replace the counts array
+            int index = indexOf(codePoint, offset);
+            counts[index]++;
+        }
+    }
+
+    /**
+     * Count every code point of the UTF-8 bytes between the buffer's position and limit, without
+     * moving the position. baseOffset is the offset of the position in the whole input; parts of one
+     * input may be added in any order, the earliest offset of each code point is kept.
+     * Each maximal invalid byte sequence is counted as U+FFFD, as {@code new String(bytes, UTF_8)} does.
+     */
+    public void addUtf8(ByteBuffer bytes, long baseOffset) {
+        int start = bytes.position();
+        int limit = bytes.limit();
+        int[] ascii = asciiIndex;
+        long[] offsets = firstOffsets;
+        long delta = baseOffset - start;
+        int i = start;
+        while (i < limit) {
+            int b = bytes.get(i);
+            if (b >= 0) {
+                int index = ascii[b] - 1;
+                if (index < 0) {
+                    index = register(b, delta + i);
+                    ascii[b] = index + 1;
+                    offsets = firstOffsets;
+                } else if (delta + i < offsets[index]) {
+                    offsets[index] = delta + i;
+                }
+                counts[index]++;
+                i++;
+                continue;
+            }
+            int lead = b & 0xFF;
+            int length;
+            int codePoint;
+            // Allowed range of the second byte, which rules out overlong forms and code points > U+10FFFF
+            int low = 0x80;
+            int high = 0xBF;
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                length = 2;
+                codePoint = lead & 0x1F;
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                length = 3;
+                codePoint = lead & 0x0F;
+                if (lead == 0xE0) {
+                    low = 0xA0;
+                }
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                length = 4;
+                codePoint = lead & 0x07;
+                if (lead == 0xF0) {
+                    low = 0x90;
+                } else if (lead == 0xF4) {
+                    high = 0x8F;
+                }
+            } else {
+                length = 1;
+                codePoint = -1;
+            }
+            int consumed = 1;
+            while (consumed < length) {
+                if (i + consumed >= limit) {
+                    codePoint = -1;
+                    break;
+                }
+                int next = bytes.get(i + consumed) & 0xFF;
+                if (next < low || next > high) {
+                    codePoint = -1;
+                    break;
+                }
+                codePoint = codePoint << 6 | next & 0x3F;
+                low = 0x80;
+                high = 0xBF;
+                consumed++;
+            }
+            // An encoded surrogate is replaced as a whole, as the JDK decoder does
+            if (codePoint < 0 || length == 3 && Character.isSurrogate((char) codePoint)) {
+                codePoint = REPLACEMENT;
+            }
+            int index = indexOf(codePoint, delta + i);
+            offsets = firstOffsets;
+            offsets[index] = Math.min(offsets[index], delta + i);
+            counts[index]++;
+            i += consumed;
+        }
+    }
+
+    /**
+     * Add the counts of another counter, keeping the earlier first offset of each code point.
+     * Call {@link #sortByFirstOffset()} afterwards to restore first-appearance order.
+     */
+    public void merge(CodePointCounter other) {
+        for (int i = 0; i < other.size; i++) {
+            int codePoint = other.codePoints[i];
+            long offset = other.firstOffsets[i];
+            int index;
+            if (codePoint < ASCII) {
+                index = asciiIndex[codePoint] - 1;
+                if (index < 0) {
+                    index = register(codePoint, offset);
+                    asciiIndex[codePoint] = index + 1;
+                }
+            } else {
+                index = indexOf(codePoint, offset);
+            }
+            counts[index] += other.counts[i];
+            firstOffsets[index] = Math.min(firstOffsets[index], offset);
+        }
+    }
+
+    /**
+     * Reorder the counted code points by the offset of their first occurrence
+     */
+    public void sortByFirstOffset() {
+        int[] order = IntStream.range(0, size).boxed()
+                .sorted((a, b) -> Long.compare(firstOffsets[a], firstOffsets[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int[] sortedCodePoints = new int[codePoints.length];
+        long[] sortedCounts = new long[counts.length];
+        long[] sortedOffsets = new long[firstOffsets.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedCodePoints[i] = codePoints[order[i]];
+            sortedCounts[i] = counts[order[i]];
+            sortedOffsets[i] = firstOffsets[order[i]];
+        }
+        reset();
+        for (int i = 0; i < order.length; i++) {
+            int codePoint = sortedCodePoints[i];
+            int index;
+            if (codePoint < ASCII) {
+                index = register(codePoint, sortedOffsets[i]);
+                asciiIndex[codePoint] = index + 1;
+            } else {
+                index = indexOf(codePoint, sortedOffsets[i]);
+            }
+            counts[index] = sortedCounts[i];
+        }
+    }
+
+    /**
+     * Number of distinct code points counted
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Code point with the given order of first appearance
+     */
+    public int codePointAt(int index) {
+        return codePoints[index];
+    }
+
+    /**
+     * Count of the code point with the given order of first appearance
+     */
+    public long countAt(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Offset of the first occurrence of the code point with the given order of first appearance:
+     * a char index for {@link #add(CharSequence)}, a byte offset for {@link #addUtf8(ByteBuffer, long)}
+     */
+    public long firstOffsetAt(int index) {
+        return firstOffsets[index];
+    }
+
+    /**
+     * Write "codePoint:count" entries in order of first appearance, separated by ", "
+     */
+    public void appendTo(Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendTo((StringBuilder) out);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                out.append(',').append(' ');
+            }
+            int codePoint = codePoints[i];
+            if (Character.isBmpCodePoint(codePoint)) {
+                out.append((char) codePoint);
+            } else {
+                out.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+            }
+            out.append(':');
+            appendCount(out, counts[i]);
+        }
+    }
+
+    private void appendTo(StringBuilder out) {
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            int codePoint = codePoints[i];
+            // appendCodePoint allocates a char[] for code points outside the BMP
+            if (Character.isBmpCodePoint(codePoint)) {
+                out.append((char) codePoint);
+            } else {
+                out.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+            }
+            out.append(':').append(counts[i]);
+        }
+    }
+
+    private static void appendCount(Appendable out, long count) throws IOException {
+        // Emit digits most significant first without building a String
+        long divisor = 1;
+        while (count / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + count / divisor % 10));
+        }
+    }
+
+    /**
+     * Forget all counts, keeping the grown arrays for the next input
+     */
+    public void reset() {
+        for (int i = 0; i < size; i++) {
+            int codePoint = codePoints[i];
+            if (codePoint < ASCII) {
+                asciiIndex[codePoint] = 0;
+            }
+            counts[i] = 0;
+        }
+        if (tableSize > 0) {
+            Arrays.fill(tableKeys, EMPTY);
+            tableSize = 0;
+        }
+        size = 0;
+    }
+
+    private int indexOf(int codePoint, long offset) {
+        int mask = tableKeys.length - 1;
+        int slot = hash(codePoint) & mask;
+        while (true) {
+            int key = tableKeys[slot];
+            if (key == codePoint) {
+                return tableIndex[slot];
+            }
+            if (key == EMPTY) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int index = register(codePoint, offset);
+        tableKeys[slot] = codePoint;
+        tableIndex[slot] = index;
+        if (++tableSize * 2 > tableKeys.length) {
+            growTable();
+        }
+        return index;
+    }
+
+    private int register(int codePoint, long offset) {
+        if (size == codePoints.length) {
+            codePoints = Arrays.copyOf(codePoints, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+            firstOffsets = Arrays.copyOf(firstOffsets, size * 2);
+        }
+        codePoints[size] = codePoint;
+        firstOffsets[size] = offset;
+        return size++;
+    }
+
+    private void growTable() {
+        int[] oldKeys = tableKeys;
+        int[] oldIndex = tableIndex;
+        tableKeys = newTable(oldKeys.length * 2);
+        tableIndex = new int[oldKeys.length * 2];
+        int mask = tableKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (tableKeys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                tableKeys[slot] = oldKeys[i];
+                tableIndex[slot] = oldIndex[i];
+            }
+        }
+    }
+
+    private static int hash(int codePoint) {
+        return (codePoint * 0x9E3779B9) >>> 16 ^ codePoint;
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Counts the code points of a UTF-8 file in parallel without loading it onto the heap.
+ * The file is memory-mapped in fixed-size chunks whose boundaries are moved forward past UTF-8
+ * continuation bytes, so no code point is split between two chunks. Fork/join tasks count the chunks
+ * into one {@link CodePointCounter} per worker thread, recording the byte offset where each code point
+ * first occurred; the worker counters are then merged and sorted by that offset, which gives the same
+ * first-appearance order as counting the file sequentially. Heap use depends on the number of workers
+ * and distinct code points, not on the file size.
+ */
+public final class CodePointFileCounter {
+    /** Bytes mapped and counted by one task */
+    public static final int DEFAULT_CHUNK_BYTES = 16 << 20;
+    // Longest UTF-8 sequence minus its lead byte: how far a chunk boundary can move
+    private static final int MAX_CONTINUATION_BYTES = 3;
+
+    private CodePointFileCounter() {
+    }
+
+    /**
+     * Count the code points of the channel's content from position 0 in the common fork/join pool
+     */
+    public static CodePointCounter count(FileChannel channel) throws IOException {
+        return count(channel, DEFAULT_CHUNK_BYTES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Count the code points of the channel's content from position 0, chunkBytes at a time, in the given pool
+     */
+    public static CodePointCounter count(FileChannel channel, int chunkBytes, ForkJoinPool pool) throws IOException {
+        if (chunkBytes <= MAX_CONTINUATION_BYTES) {
+            throw new IllegalArgumentException("Chunk size must be larger than " + MAX_CONTINUATION_BYTES + " bytes: " + chunkBytes);
+        }
+        long size = channel.size();
+        long chunks = (size + chunkBytes - 1) / chunkBytes;
+        Map<Thread, CodePointCounter> workerCounters = new ConcurrentHashMap<>();
+        try {
+            pool.invoke(new CountTask(channel, size, chunkBytes, 0, chunks, workerCounters));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        CodePointCounter result = new CodePointCounter();
+        for (CodePointCounter counter : workerCounters.values()) {
+            result.merge(counter);
+        }
+        result.sortByFirstOffset();
+        return result;
+    }
+
+    /**
+     * Counts the chunks [fromChunk, toChunk), splitting the range in halves down to single chunks
+     */
+    private static final class CountTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long size;
+        private final int chunkBytes;
+        private final long fromChunk;
+        private final long toChunk;
+        private final Map<Thread, CodePointCounter> workerCounters;
+
+        private CountTask(FileChannel channel, long size, int chunkBytes, long fromChunk, long toChunk,
+                          Map<Thread, CodePointCounter> workerCounters) {
+            this.channel = channel;
+            this.size = size;
+            this.chunkBytes = chunkBytes;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.workerCounters = workerCounters;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                long middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new CountTask(channel, size, chunkBytes, fromChunk, middle, workerCounters),
+                        new CountTask(channel, size, chunkBytes, middle, toChunk, workerCounters));
+                return;
+            }
+            if (toChunk == fromChunk) {
+                return;
+            }
+            long start = fromChunk * chunkBytes;
+            long end = Math.min(size, start + chunkBytes);
+            // Map a few bytes past the end to find where the last code point of the chunk ends
+            long mappedEnd = Math.min(size, end + MAX_CONTINUATION_BYTES);
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, mappedEnd - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int from = start == 0 ? 0 : boundary(buffer, 0);
+            int to = end == size ? (int) (end - start) : boundary(buffer, (int) (end - start));
+            buffer.position(from).limit(to);
+            // Tasks run on pool workers, or on a thread joining them, and each uses only its own counter
+            CodePointCounter counter = workerCounters.computeIfAbsent(Thread.currentThread(), t -> new CodePointCounter());
+            counter.addUtf8(buffer, start + from);
+        }
+
+        /**
+         * Move an index forward past at most three continuation bytes (10xxxxxx)
+         */
+        private static int boundary(MappedByteBuffer buffer, int index) {
+            int limit = Math.min(buffer.capacity(), index + MAX_CONTINUATION_BYTES);
+            while (index < limit && (buffer.get(index) & 0xC0) == 0x80) {
+                index++;
+            }
+            return index;
+        }
+    }
+}
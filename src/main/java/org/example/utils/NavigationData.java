@@ -0,0 +1,25 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Expected top navigation items, bound from testdata/navigation-data.json
+ */
+public record NavigationData(@JsonProperty("expected_navigation_items") Map<String, String> expectedNavigationItems) {
+    public static final String FILE = "navigation-data.json";
+
+    public NavigationData {
+        // Keep the menu order of the file
+        expectedNavigationItems = expectedNavigationItems != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(expectedNavigationItems))
+                : Map.of();
+    }
+
+    public String item(String key) {
+        return expectedNavigationItems.get(key);
+    }
+}
@@ -0,0 +1,279 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.ConfigReader;
+import org.example.config.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store for screenshots. Identical images are kept once, images are
+ * optionally downscaled and re-encoded as JPEG, and the oldest files are evicted when
+ * the store exceeds its size or age limit. Every stored screenshot gets a unique ID,
+ * recorded with its test name and content file in index.ndjson. The index is rewritten when images
+ * are evicted, dropping their entries, and trimmed to the most recent entries when it grows too long.
+ */
+public class ScreenshotStore {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotStore.class);
+    private static final String INDEX_FILE = "index.ndjson";
+    // Index entries kept at most; a longer index is trimmed to three quarters of this
+    private static final int MAX_INDEX_ENTRIES = 10_000;
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static volatile ScreenshotStore instance;
+
+    private final Path directory;
+    private final boolean jpeg;
+    private final float jpegQuality;
+    private final int maxWidth;
+    private final long maxTotalBytes;
+    private final Duration maxAge;
+    // Lines in the index file, counted on first use
+    private long indexEntries = -1;
+
+    public ScreenshotStore(Path directory, boolean jpeg, float jpegQuality, int maxWidth,
+                           long maxTotalBytes, Duration maxAge) {
+        this.directory = directory;
+        this.jpeg = jpeg;
+        this.jpegQuality = jpegQuality;
+        this.maxWidth = maxWidth;
+        this.maxTotalBytes = maxTotalBytes;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Get the store configured in test-config.yaml
+     */
+    public static ScreenshotStore getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotStore.class) {
+                if (instance == null) {
+                    TestConfig.Screenshots config = ConfigReader.getConfig().getScreenshots();
+                    instance = new ScreenshotStore(Paths.get(config.getDirectory()),
+                            "jpeg".equalsIgnoreCase(config.getFormat()) || "jpg".equalsIgnoreCase(config.getFormat()),
+                            config.getJpegQuality(), config.getMaxWidth(),
+                            config.getMaxTotalMb() * 1024L * 1024L, Duration.ofDays(config.getMaxAgeDays()));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public String getMimeType() {
+        return jpeg ? "image/jpeg" : "image/png";
+    }
+
+    public String getExtension() {
+        return jpeg ? "jpg" : "png";
+    }
+
+    /**
+     * Encode and store a PNG screenshot, reusing the stored file when the same image was stored before
+     */
+    public synchronized StoredScreenshot store(byte[] png, String testName) {
+        String id = String.format("%s-%d-%d", testName, System.currentTimeMillis(), sequence.incrementAndGet());
+        try {
+            Files.createDirectories(directory);
+            // Address by the captured image, so duplicates are found before paying for re-encoding
+            String hash = sha256(png);
+            Path file = directory.resolve(hash + "." + getExtension());
+            byte[] content;
+            if (Files.exists(file)) {
+                content = Files.readAllBytes(file);
+                Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+                logger.info("Screenshot {} is identical to stored {}", id, file.getFileName());
+            } else {
+                content = encode(png);
+                Path tmpFile = Files.createTempFile(directory, hash, ".tmp");
+                Files.write(tmpFile, content);
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+                logger.info("Screenshot {} saved: {} ({} KB)", id, file, content.length / 1024);
+            }
+            appendIndex(id, testName, file);
+            if (evict(file) > 0 || indexEntries > MAX_INDEX_ENTRIES) {
+                rewriteIndex();
+            }
+            return new StoredScreenshot(id, file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store screenshot " + id, e);
+        }
+    }
+
+    private byte[] encode(byte[] png) throws IOException {
+        if (!jpeg && maxWidth <= 0) {
+            return png;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (maxWidth > 0 && width > maxWidth) {
+            height = Math.max(1, height * maxWidth / width);
+            width = maxWidth;
+        }
+        // JPEG has no alpha channel
+        BufferedImage output = new BufferedImage(width, height, jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = output.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!jpeg) {
+            ImageIO.write(output, "png", out);
+            return out.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(output, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private void appendIndex(String id, String testName, Path file) throws IOException {
+        Path indexFile = directory.resolve(INDEX_FILE);
+        if (indexEntries < 0) {
+            if (Files.exists(indexFile)) {
+                try (Stream<String> lines = Files.lines(indexFile, StandardCharsets.UTF_8)) {
+                    indexEntries = lines.count();
+                }
+            } else {
+                indexEntries = 0;
+            }
+        }
+        byte[] line = mapper.writeValueAsBytes(new IndexEntry(id, testName, file.getFileName().toString(),
+                Instant.now().toString()));
+        try (OutputStream out = Files.newOutputStream(indexFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            out.write(line);
+            out.write('\n');
+        }
+        indexEntries++;
+    }
+
+    /**
+     * Rewrite the index without entries whose image was evicted, keeping the most recent entries
+     */
+    private void rewriteIndex() throws IOException {
+        Path indexFile = directory.resolve(INDEX_FILE);
+        List<String> kept = new ArrayList<>();
+        for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode file = mapper.readTree(line).get("file");
+                if (file != null && Files.exists(directory.resolve(file.asText()))) {
+                    kept.add(line);
+                }
+            } catch (IOException e) {
+                logger.debug("Dropping unreadable screenshot index entry: {}", line);
+            }
+        }
+        if (kept.size() > MAX_INDEX_ENTRIES) {
+            kept = kept.subList(kept.size() - MAX_INDEX_ENTRIES * 3 / 4, kept.size());
+        }
+        Path tmpFile = Files.createTempFile(directory, "index", ".tmp");
+        Files.write(tmpFile, kept, StandardCharsets.UTF_8);
+        Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        indexEntries = kept.size();
+    }
+
+    /**
+     * Delete the least recently stored images beyond the age limit, then until the store fits its size limit.
+     * Returns the number of images deleted.
+     */
+    private int evict(Path keep) throws IOException {
+        List<Path> images;
+        try (Stream<Path> files = Files.list(directory)) {
+            images = files.filter(path -> path.getFileName().toString().endsWith("." + getExtension()))
+                    .sorted(Comparator.comparing(ScreenshotStore::lastModified))
+                    .collect(Collectors.toList());
+        }
+        long totalBytes = 0;
+        for (Path image : images) {
+            totalBytes += Files.size(image);
+        }
+        Instant oldestAllowed = Instant.now().minus(maxAge);
+        int evicted = 0;
+        for (Path image : images) {
+            boolean expired = maxAge.toMillis() > 0 && lastModified(image).toInstant().isBefore(oldestAllowed);
+            boolean overSize = maxTotalBytes > 0 && totalBytes > maxTotalBytes;
+            if (image.equals(keep) || (!expired && !overSize)) {
+                continue;
+            }
+            totalBytes -= Files.size(image);
+            Files.deleteIfExists(image);
+            evicted++;
+        }
+        if (evicted > 0) {
+            logger.info("Evicted {} stored screenshots, {} KB remain", evicted, totalBytes / 1024);
+        }
+        return evicted;
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A stored screenshot: its unique ID, the content file it shares with identical screenshots, and the encoded bytes
+     */
+    public record StoredScreenshot(String id, Path file, byte[] content) {
+    }
+
+    private record IndexEntry(String id, String test, String file, String storedAt) {
+    }
+}
@@ -6,49 +6,32 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.io.UncheckedIOException;
 
 /**
  * Utility class for taking and managing screenshots
  */
 public class ScreenshotUtil {
     private static final Logger logger = LoggerFactory.getLogger(ScreenshotUtil.class);
-    private static final String SCREENSHOT_DIR = "target/screenshots";
 
     /**
      * Take screenshot and save to file
      */
     public static String takeScreenshot(WebDriver driver, String testName) {
-        try {
-            // Create screenshots directory if it doesn't exist
-            Path screenshotPath = Paths.get(SCREENSHOT_DIR);
-            if (!Files.exists(screenshotPath)) {
-                Files.createDirectories(screenshotPath);
-            }
-
-            // Generate filename with timestamp
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String fileName = String.format("%s_%s.png", testName, timestamp);
-            String filePath = SCREENSHOT_DIR + File.separator + fileName;
-
-            // Take screenshot
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(filePath);
-
-            // Copy file
-            Files.copy(sourceFile.toPath(), destinationFile.toPath());
+        return saveScreenshot(takeScreenshotAsBytes(driver), testName);
+    }
 
-            logger.info("Screenshot saved: {}", filePath);
-            return filePath;
-        } catch (IOException e) {
-            logger.error("Failed to take screenshot", e);
+    /**
+     * Save screenshot bytes that were already taken to the screenshot store
+     */
+    public static String saveScreenshot(byte[] png, String testName) {
+        if (png == null || png.length == 0) {
+            return null;
+        }
+        try {
+            return ScreenshotStore.getInstance().store(png, testName).file().toString();
+        } catch (UncheckedIOException e) {
+            logger.error("Failed to save screenshot", e);
             return null;
         }
     }
@@ -66,4 +49,3 @@ public class ScreenshotUtil {
         }
     }
 }
-
@@ -0,0 +1,125 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * WebDriver round trips per page-object method. Allure steps running on a thread are tracked
+ * on a stack, and every command is counted for each step on it, so a step's figures include
+ * the commands of the steps it calls.
+ * Methods averaging several round trips per call, or taking a large share of all command
+ * time, are flagged as hot.
+ */
+public class StepProfile {
+    private static final Logger logger = LoggerFactory.getLogger(StepProfile.class);
+    // A method doing this many round trips per call is worth batching into one script
+    private static final double HOT_ROUND_TRIPS_PER_CALL = 4;
+    private static final double HOT_SHARE_OF_COMMAND_TIME = 0.05;
+
+    private static final ThreadLocal<List<StepStats>> activeSteps = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, StepStats> statsByMethod = new ConcurrentHashMap<>();
+    private static final LongAdder totalCommandNanos = new LongAdder();
+
+    private StepProfile() {
+    }
+
+    /**
+     * A step implemented by the given page-object method started on the current thread
+     */
+    public static void stepStarted(String method) {
+        StepStats stats = statsByMethod.computeIfAbsent(method, k -> new StepStats());
+        stats.calls.increment();
+        activeSteps.get().add(stats);
+    }
+
+    /**
+     * The innermost step on the current thread stopped
+     */
+    public static void stepStopped() {
+        List<StepStats> steps = activeSteps.get();
+        if (!steps.isEmpty()) {
+            steps.remove(steps.size() - 1);
+        }
+    }
+
+    /**
+     * Count a WebDriver command for every step running on the current thread
+     */
+    public static void recordCommand(long nanos) {
+        totalCommandNanos.add(nanos);
+        List<StepStats> steps = activeSteps.get();
+        for (int i = 0; i < steps.size(); i++) {
+            StepStats stats = steps.get(i);
+            stats.commands.increment();
+            stats.commandNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Per-method command counts and time, most command time first
+     */
+    public static List<StepCommands> getReport() {
+        long allCommandNanos = Math.max(1, totalCommandNanos.sum());
+        return statsByMethod.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey(), allCommandNanos))
+                .sorted(Comparator.comparingDouble(StepCommands::commandMillis).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Log the hot methods and write the full report as JSON
+     */
+    public static void writeReport(Path reportFile) {
+        List<StepCommands> report = getReport();
+        if (report.isEmpty()) {
+            return;
+        }
+        List<StepCommands> hot = report.stream().filter(StepCommands::hot).collect(Collectors.toList());
+        if (!hot.isEmpty()) {
+            logger.info("Hot page-object methods (WebDriver round trips):");
+            hot.forEach(step -> logger.info("  {} - calls: {}, round trips per call: {}, command time: {} ms ({}%)",
+                    step.method(), step.calls(), step.roundTripsPerCall(), Math.round(step.commandMillis()),
+                    Math.round(step.shareOfCommandTime() * 100)));
+        }
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        } catch (IOException e) {
+            logger.warn("Failed to write step profile: {}", e.getMessage());
+        }
+    }
+
+    public record StepCommands(String method, long calls, long commands, double roundTripsPerCall,
+                               double commandMillis, double shareOfCommandTime, boolean hot) {
+    }
+
+    private static class StepStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder commands = new LongAdder();
+        private final LongAdder commandNanos = new LongAdder();
+
+        private StepCommands snapshot(String method, long allCommandNanos) {
+            long callCount = calls.sum();
+            long commandCount = commands.sum();
+            long nanos = commandNanos.sum();
+            double roundTripsPerCall = callCount == 0 ? 0 : Math.round(10.0 * commandCount / callCount) / 10.0;
+            double share = Math.round(1000.0 * nanos / allCommandNanos) / 1000.0;
+            return new StepCommands(method, callCount, commandCount, roundTripsPerCall,
+                    Math.round(nanos / 1_000.0) / 1_000.0, share,
+                    roundTripsPerCall >= HOT_ROUND_TRIPS_PER_CALL || share >= HOT_SHARE_OF_COMMAND_TIME);
+        }
+    }
+}
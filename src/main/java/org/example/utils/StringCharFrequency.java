@@ -1,7 +1,11 @@
 package org.example.utils;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Task 2 2: String Character Frequency
@@ -11,8 +15,15 @@ import java.util.Map;
  * - Case sensitive (e.g., 'A' and 'a' are different)
  * - Whitespace and special characters are counted
  * - Input is a standard Java String
+ * - Characters are Unicode code points: a surrogate pair (e.g. an emoji) is counted once
+ * <p>
+ * Counting is done by a per-thread {@link CodePointCounter}, so repeated calls do not allocate
+ * beyond the output. Files are counted by {@link CodePointFileCounter}, which memory-maps them and
+ * counts chunks in parallel instead of reading them onto the heap.
  */
 public class StringCharFrequency {
+    private static final ThreadLocal<CodePointCounter> counters = ThreadLocal.withInitial(CodePointCounter::new);
+
     /**
      * Counts character occurrences in a string and returns a formatted result.
      *
@@ -20,22 +31,63 @@ public class StringCharFrequency {
      * @return formatted frequency string (e.g., h:1, e:1, l:3, ...)
      */
     public static String countCharFrequency(String input) {
-        Map<Character, Integer> freqMap = new LinkedHashMap<>();
-        for (char c : input.toCharArray()) {
-            freqMap.put(c, freqMap.getOrDefault(c, 0) + 1);
-        }
         StringBuilder result = new StringBuilder();
-        for (Map.Entry<Character, Integer> entry : freqMap.entrySet()) {
-            if (result.length() > 0) result.append(", ");
-            result.append(entry.getKey()).append(":").append(entry.getValue());
+        try {
+            countCharFrequency(input, result);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
         }
         return result.toString();
     }
 
     /**
-     * Example usage and test
+     * Counts code point occurrences and writes the formatted result to the given output.
+     *
+     * @param input the input characters
+     * @param out   where to write the frequency string (e.g., h:1, e:1, l:3, ...)
+     * @throws IOException if the output cannot be written
+     */
+    public static void countCharFrequency(CharSequence input, Appendable out) throws IOException {
+        CodePointCounter counter = counters.get();
+        counter.reset();
+        counter.add(input);
+        counter.appendTo(out);
+    }
+
+    /**
+     * Counts code point occurrences in a UTF-8 file and writes the formatted result to the given output.
+     *
+     * @param file the UTF-8 encoded file
+     * @param out  where to write the frequency string (e.g., h:1, e:1, l:3, ...)
+     * @throws IOException if the file cannot be read or the output cannot be written
+     */
+    public static void countCharFrequency(Path file, Appendable out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            countCharFrequency(channel, out);
+        }
+    }
+
+    /**
+     * Counts code point occurrences in the UTF-8 content of a file channel and writes the formatted result.
+     *
+     * @param channel the channel, counted from position 0 to its size
+     * @param out     where to write the frequency string (e.g., h:1, e:1, l:3, ...)
+     * @throws IOException if the channel cannot be mapped or the output cannot be written
+     */
+    public static void countCharFrequency(FileChannel channel, Appendable out) throws IOException {
+        CodePointFileCounter.count(channel).appendTo(out);
+    }
+
+    /**
+     * Example usage and test; counts the given file instead when a path is passed
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0) {
+            countCharFrequency(Paths.get(args[0]), System.out);
+            System.out.println();
+            return;
+        }
         String input = "aA@@b  #c!";
         System.out.println("Input: " + input);
         System.out.println("Output: " + countCharFrequency(input));
@@ -0,0 +1,361 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records where test time goes: time per phase for every test and count and latency of every
+ * WebDriver command. Each test thread tracks its current phase without locking; finished tests
+ * are folded into lock-free counters and histograms, exported as JSON and Prometheus text.
+ * <p>
+ * Phase time is exclusive. Setup and test body time not spent in a more specific phase is
+ * counted as setup and assertion time. Inside driver startup, page open, wait or teardown,
+ * nested phases and commands are counted towards the outer phase.
+ */
+public class Telemetry {
+    private static final Logger logger = LoggerFactory.getLogger(Telemetry.class);
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    public enum Phase {
+        DRIVER_STARTUP(false), PAGE_OPEN(false), WAIT(false), COMMAND(false),
+        SETUP(true), ASSERTION(true), TEARDOWN(false);
+
+        // Remainder phases are split up by the phases entered inside them
+        private final boolean remainder;
+
+        Phase(boolean remainder) {
+            this.remainder = remainder;
+        }
+
+        public String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final ThreadLocal<TestRecord> currentTest = new ThreadLocal<>();
+    private static final Map<Phase, LatencyHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+    private static final Map<String, LatencyHistogram> commandHistograms = new ConcurrentHashMap<>();
+    private static final Map<String, TestTotals> testTotals = new ConcurrentHashMap<>();
+    private static final Span NO_OP_SPAN = () -> {
+    };
+
+    static {
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    private Telemetry() {
+    }
+
+    /**
+     * A phase entered with {@link #phase(Phase)}; closing it returns to the enclosing phase
+     */
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Start recording a test on the current thread, unless one is already being recorded.
+     * A recorded test whose body already ran but was never ended is finished first.
+     */
+    public static void beginTest() {
+        TestRecord record = currentTest.get();
+        if (record != null && record.testName != null && record.stack.isEmpty()) {
+            endTest();
+            record = null;
+        }
+        if (record == null) {
+            currentTest.set(new TestRecord(System.nanoTime()));
+        }
+    }
+
+    /**
+     * Name the test being recorded on the current thread
+     */
+    public static void setTestName(String testName) {
+        TestRecord record = currentTest.get();
+        if (record != null) {
+            record.testName = testName;
+        }
+    }
+
+    /**
+     * Enter a phase on the current thread. Without a test being recorded this is a no-op.
+     */
+    public static Span phase(Phase phase) {
+        TestRecord record = currentTest.get();
+        if (record == null) {
+            return NO_OP_SPAN;
+        }
+        record.push(phase, System.nanoTime());
+        return () -> record.pop(System.nanoTime());
+    }
+
+    /**
+     * Run an action in a phase on the current thread
+     */
+    public static void time(Phase phase, Runnable action) {
+        Span span = phase(phase);
+        try {
+            action.run();
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Compute a value in a phase on the current thread
+     */
+    public static <T> T time(Phase phase, Supplier<T> action) {
+        Span span = phase(phase);
+        try {
+            return action.get();
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Record one WebDriver command, for the suite and for the test running on the current thread
+     */
+    public static void recordCommand(String command, long nanos) {
+        commandHistograms.computeIfAbsent(command, k -> new LatencyHistogram()).record(nanos);
+        StepProfile.recordCommand(nanos);
+        TestRecord record = currentTest.get();
+        if (record != null) {
+            record.commands++;
+            record.commandNanos += nanos;
+        }
+    }
+
+    /**
+     * Finish the test recorded on the current thread and add it to the suite totals
+     */
+    public static void endTest() {
+        TestRecord record = currentTest.get();
+        if (record == null) {
+            return;
+        }
+        currentTest.remove();
+        long now = System.nanoTime();
+        while (!record.stack.isEmpty()) {
+            record.pop(now);
+        }
+        String testName = record.testName != null ? record.testName : "unknown";
+        TestTotals totals = testTotals.computeIfAbsent(testName, k -> new TestTotals());
+        for (Phase phase : Phase.values()) {
+            long nanos = record.phaseNanos[phase.ordinal()];
+            if (nanos > 0) {
+                phaseHistograms.get(phase).record(nanos);
+                totals.phaseNanos.get(phase).add(nanos);
+            }
+        }
+        totals.runs.increment();
+        totals.totalNanos.add(now - record.startNanos);
+        totals.commands.add(record.commands);
+        totals.commandNanos.add(record.commandNanos);
+    }
+
+    /**
+     * Time per phase, commands by total time and tests by duration
+     */
+    public static Report getReport() {
+        List<PhaseTime> phases = new ArrayList<>();
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram histogram = phaseHistograms.get(phase);
+            phases.add(new PhaseTime(phase.label(), millis(histogram.getSumNanos()), histogram.getCount(),
+                    millis(histogram.getPercentileNanos(50)), millis(histogram.getPercentileNanos(95)),
+                    millis(histogram.getMaxNanos())));
+        }
+        List<CommandLatency> commands = commandHistograms.entrySet().stream()
+                .map(entry -> toCommandLatency(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(CommandLatency::totalMillis).reversed())
+                .collect(Collectors.toList());
+        List<TestTime> tests = testTotals.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(TestTime::totalMillis).reversed())
+                .collect(Collectors.toList());
+        return new Report(phases, commands, tests);
+    }
+
+    private static CommandLatency toCommandLatency(String command, LatencyHistogram histogram) {
+        return new CommandLatency(command, histogram.getCount(), millis(histogram.getSumNanos()),
+                millis(histogram.getPercentileNanos(50)), millis(histogram.getPercentileNanos(95)),
+                millis(histogram.getPercentileNanos(99)), millis(histogram.getMaxNanos()));
+    }
+
+    /**
+     * Log time per phase and write the report as JSON and as Prometheus text format
+     */
+    public static void writeReport(Path jsonFile, Path prometheusFile) {
+        Report report = getReport();
+        if (report.tests().isEmpty()) {
+            return;
+        }
+        double totalMillis = report.phases().stream().mapToDouble(PhaseTime::totalMillis).sum();
+        logger.info("Test time by phase:");
+        report.phases().stream().filter(phase -> phase.totalMillis() > 0).forEach(phase ->
+                logger.info("  {} - {} ms ({}%), p95 per test: {} ms", phase.phase(), Math.round(phase.totalMillis()),
+                        Math.round(100 * phase.totalMillis() / totalMillis), Math.round(phase.p95Millis())));
+        try {
+            Files.createDirectories(jsonFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(jsonFile.toFile(), report);
+            Files.createDirectories(prometheusFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(prometheusFile, StandardCharsets.UTF_8)) {
+                writePrometheus(writer);
+            }
+            logger.info("Telemetry written to {} and {}", jsonFile, prometheusFile);
+        } catch (IOException e) {
+            logger.warn("Failed to write telemetry: {}", e.getMessage());
+        }
+    }
+
+    private static void writePrometheus(Writer writer) throws IOException {
+        writer.write("# HELP mb_test_phase_seconds Time spent per test phase\n");
+        writer.write("# TYPE mb_test_phase_seconds summary\n");
+        for (Phase phase : Phase.values()) {
+            writeSummary(writer, "mb_test_phase_seconds", "phase", phase.label(), phaseHistograms.get(phase));
+        }
+        writer.write("# HELP mb_webdriver_command_seconds WebDriver command latency\n");
+        writer.write("# TYPE mb_webdriver_command_seconds summary\n");
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(commandHistograms).entrySet()) {
+            writeSummary(writer, "mb_webdriver_command_seconds", "command", entry.getKey(), entry.getValue());
+        }
+        writer.write("# HELP mb_test_webdriver_commands_total WebDriver commands issued per test\n");
+        writer.write("# TYPE mb_test_webdriver_commands_total counter\n");
+        for (Map.Entry<String, TestTotals> entry : new TreeMap<>(testTotals).entrySet()) {
+            writer.write(String.format(Locale.ROOT, "mb_test_webdriver_commands_total{test=\"%s\"} %d%n",
+                    escapeLabel(entry.getKey()), entry.getValue().commands.sum()));
+        }
+    }
+
+    private static void writeSummary(Writer writer, String name, String labelName, String labelValue,
+                                     LatencyHistogram histogram) throws IOException {
+        String label = labelName + "=\"" + escapeLabel(labelValue) + "\"";
+        for (double quantile : new double[]{0.5, 0.95, 0.99}) {
+            writer.write(String.format(Locale.ROOT, "%s{%s,quantile=\"%s\"} %.6f%n", name, label, quantile,
+                    histogram.getPercentileNanos(quantile * 100) / NANOS_PER_SECOND));
+        }
+        writer.write(String.format(Locale.ROOT, "%s_sum{%s} %.6f%n", name, label,
+                histogram.getSumNanos() / NANOS_PER_SECOND));
+        writer.write(String.format(Locale.ROOT, "%s_count{%s} %d%n", name, label, histogram.getCount()));
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    public record Report(List<PhaseTime> phases, List<CommandLatency> commands, List<TestTime> tests) {
+    }
+
+    public record PhaseTime(String phase, double totalMillis, long tests, double p50Millis, double p95Millis,
+                            double maxMillis) {
+    }
+
+    public record CommandLatency(String command, long count, double totalMillis, double p50Millis,
+                                 double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    public record TestTime(String test, long runs, double totalMillis, Map<String, Double> phaseMillis,
+                           long commands, double commandMillis) {
+    }
+
+    /**
+     * Phase state of the test running on one thread; only that thread touches it
+     */
+    private static class TestRecord {
+        private final long startNanos;
+        private final long[] phaseNanos = new long[Phase.values().length];
+        private final List<Phase> stack = new ArrayList<>();
+        private String testName;
+        private long segmentStartNanos;
+        private long commands;
+        private long commandNanos;
+
+        private TestRecord(long startNanos) {
+            this.startNanos = startNanos;
+            this.segmentStartNanos = startNanos;
+        }
+
+        private Phase charged() {
+            // The innermost phase that was allowed to take over from a remainder phase
+            for (int i = stack.size() - 1; i >= 0; i--) {
+                if (i == 0 || stack.get(i - 1).remainder) {
+                    return stack.get(i);
+                }
+            }
+            return null;
+        }
+
+        private void push(Phase phase, long now) {
+            charge(now);
+            stack.add(phase);
+        }
+
+        private void pop(long now) {
+            charge(now);
+            if (!stack.isEmpty()) {
+                stack.remove(stack.size() - 1);
+            }
+        }
+
+        private void charge(long now) {
+            Phase phase = charged();
+            if (phase != null) {
+                phaseNanos[phase.ordinal()] += now - segmentStartNanos;
+            }
+            segmentStartNanos = now;
+        }
+    }
+
+    private static class TestTotals {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder commands = new LongAdder();
+        private final LongAdder commandNanos = new LongAdder();
+        private final Map<Phase, LongAdder> phaseNanos = new EnumMap<>(Phase.class);
+
+        private TestTotals() {
+            for (Phase phase : Phase.values()) {
+                phaseNanos.put(phase, new LongAdder());
+            }
+        }
+
+        private TestTime snapshot(String test) {
+            Map<String, Double> phases = new LinkedHashMap<>();
+            phaseNanos.forEach((phase, nanos) -> {
+                if (nanos.sum() > 0) {
+                    phases.put(phase.label(), millis(nanos.sum()));
+                }
+            });
+            return new TestTime(test, runs.sum(), millis(totalNanos.sum()), phases, commands.sum(),
+                    millis(commandNanos.sum()));
+        }
+    }
+}
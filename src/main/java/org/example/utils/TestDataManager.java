@@ -1,5 +1,6 @@
 package org.example.utils;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,29 +8,36 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Utility class for managing test data from JSON files
+ * Utility class for managing test data from JSON files.
+ * Each file is parsed once per JVM and bound to an immutable record, which is shared by all
+ * test classes, data providers and threads.
  */
 public class TestDataManager {
     private static final Logger logger = LoggerFactory.getLogger(TestDataManager.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<String, Object> cache = new ConcurrentHashMap<>();
 
     /**
-     * Load test data from JSON file
+     * Load test data from a JSON file in testdata/ bound to the given type, parsing it on first use only
      */
-    @SuppressWarnings("unchecked")
-    public static Map<String, Object> loadTestData(String fileName) {
-        try {
-            InputStream inputStream = TestDataManager.class
-                    .getClassLoader()
-                    .getResourceAsStream("testdata/" + fileName);
+    public static <T> T load(String fileName, Class<T> type) {
+        return type.cast(cache.computeIfAbsent(type.getName() + ":" + fileName,
+                k -> parse(fileName, objectMapper.constructType(type))));
+    }
+
+    private static <T> T parse(String fileName, JavaType type) {
+        try (InputStream inputStream = TestDataManager.class
+                .getClassLoader()
+                .getResourceAsStream("testdata/" + fileName)) {
 
             if (inputStream == null) {
                 throw new RuntimeException("Test data file not found: " + fileName);
             }
 
-            Map<String, Object> data = objectMapper.readValue(inputStream, Map.class);
+            T data = objectMapper.readValue(inputStream, type);
             logger.info("Loaded test data from: {}", fileName);
             return data;
         } catch (IOException e) {
@@ -38,5 +46,3 @@ public class TestDataManager {
         }
     }
 }
-
-
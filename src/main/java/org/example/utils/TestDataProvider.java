@@ -1,61 +1,70 @@
 package org.example.utils;
 
+import org.example.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.DataProvider;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Data Provider class for data-driven testing
- * Provides test data from JSON files to TestNG tests
+ * Provides test data from JSON files to TestNG tests.
+ * Rows are built from the immutable records cached by TestDataManager, so the providers can
+ * also be declared with parallel = true.
  */
 public class TestDataProvider {
+    private static final Logger logger = LoggerFactory.getLogger(TestDataProvider.class);
 
     /**
      * Provides advantage items data for parameterized testing
      *
-     * @return Object[][] containing item index and item data
+     * @return Object[][] containing item index and {@link WhyMultiBankData.AdvantageItem}
      */
     @DataProvider(name = "advantageItemsData")
     public static Object[][] getAdvantageItemsData() {
-        Map<String, Object> testData = TestDataManager.loadTestData("why-multibank-data.json");
+        List<WhyMultiBankData.AdvantageItem> items = TestDataManager
+                .load(WhyMultiBankData.FILE, WhyMultiBankData.class).advantages().items();
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> advantages = (Map<String, Object>) testData.get("advantages");
-
-        @SuppressWarnings("unchecked")
-        List<Map<String, String>> items = (List<Map<String, String>>) advantages.get("items");
-
-        List<Object[]> dataList = new ArrayList<>();
+        Object[][] data = new Object[items.size()][];
         for (int i = 0; i < items.size(); i++) {
-            dataList.add(new Object[]{i, items.get(i)});
+            data[i] = new Object[]{i, items.get(i)};
         }
-
-        return dataList.toArray(new Object[0][]);
+        return data;
     }
 
     /**
      * Provides spot trading features data for parameterized testing
      *
-     * @return Object[][] containing feature text
+     * @return Object[][] containing feature number and feature text
      */
     @DataProvider(name = "spotTradingFeaturesData")
     public static Object[][] getSpotTradingFeaturesData() {
-        Map<String, Object> testData = TestDataManager.loadTestData("why-multibank-data.json");
+        List<String> features = TestDataManager
+                .load(WhyMultiBankData.FILE, WhyMultiBankData.class).spotTrading().features();
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> spotTrading = (Map<String, Object>) testData.get("spotTrading");
-
-        @SuppressWarnings("unchecked")
-        List<String> features = (List<String>) spotTrading.get("features");
-
-        List<Object[]> dataList = new ArrayList<>();
+        Object[][] data = new Object[features.size()][];
         for (int i = 0; i < features.size(); i++) {
-            dataList.add(new Object[]{i + 1, features.get(i)});
+            data[i] = new Object[]{i + 1, features.get(i)};
         }
+        return data;
+    }
 
-        return dataList.toArray(new Object[0][]);
+    /**
+     * Streams trading pairs to look up, one {@link TradingPairCase} per row, without loading the whole file.
+     * trading-pairs.csv lists the pairs of the home.html fixture and the live listing changes over time,
+     * so outside fixture runs it provides no rows and no driver is leased for them.
+     *
+     * @return Iterator over rows containing a {@link TradingPairCase}
+     */
+    @DataProvider(name = "tradingPairsData")
+    public static Iterator<Object[]> getTradingPairsData() {
+        if (!ConfigReader.isFixtureRun()) {
+            logger.info("Skipping {} rows: they match the page fixture only; run with -Pfixture", TradingPairCase.FILE);
+            return Collections.emptyIterator();
+        }
+        return TestDataStream.rows(TradingPairCase.FILE, TradingPairCase.class);
     }
 }
-
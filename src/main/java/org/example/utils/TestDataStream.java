@@ -0,0 +1,194 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.example.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Lazy data provider rows read one record at a time from a file in testdata/, so memory stays
+ * constant however large the file is. The format follows the extension:
+ * <ul>
+ *     <li>.json: a top-level array of objects, read with Jackson's streaming parser</li>
+ *     <li>.ndjson / .jsonl: one object per line</li>
+ *     <li>.csv: a header row naming the fields, then one record per row</li>
+ * </ul>
+ * Rows can be narrowed with -Ddata.filter=field=regex[,field=regex] (all must match the whole value;
+ * a comma only starts a new condition when a field name and '=' follow it, so regexes may contain commas)
+ * and split between jobs with -Ddata.shard=index/count, which keeps every count-th matching row.
+ */
+public class TestDataStream<T> implements Iterator<Object[]> {
+    private static final Logger logger = LoggerFactory.getLogger(TestDataStream.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final CsvMapper csvMapper = new CsvMapper();
+    // A comma followed by "field=" separates filter conditions; other commas belong to the regex
+    private static final Pattern FILTER_SEPARATOR = Pattern.compile(",(?=\\s*[A-Za-z_][\\w.-]*\\s*=)");
+
+    private final String fileName;
+    private final MappingIterator<JsonNode> records;
+    private final Class<T> type;
+    private final Function<T, Object[]> toRow;
+    private final Map<String, Pattern> filter;
+    private final int shardIndex;
+    private final int shardCount;
+    private long matched;
+    private long returned;
+    private Object[] next;
+    private boolean closed;
+
+    private TestDataStream(String fileName, MappingIterator<JsonNode> records, Class<T> type,
+                           Function<T, Object[]> toRow) {
+        this.fileName = fileName;
+        this.records = records;
+        this.type = type;
+        this.toRow = toRow;
+        this.filter = parseFilter(ConfigReader.getDataFilter());
+        int[] shard = parseShard(ConfigReader.getDataShard());
+        this.shardIndex = shard[0];
+        this.shardCount = shard[1];
+    }
+
+    /**
+     * Stream a file as data provider rows holding one record each
+     */
+    public static <T> Iterator<Object[]> rows(String fileName, Class<T> type) {
+        return rows(fileName, type, record -> new Object[]{record});
+    }
+
+    /**
+     * Stream a file as data provider rows built from each record
+     */
+    public static <T> Iterator<Object[]> rows(String fileName, Class<T> type, Function<T, Object[]> toRow) {
+        InputStream inputStream = TestDataStream.class.getClassLoader().getResourceAsStream("testdata/" + fileName);
+        if (inputStream == null) {
+            throw new RuntimeException("Test data file not found: " + fileName);
+        }
+        try {
+            return new TestDataStream<>(fileName, open(fileName, inputStream), type, toRow);
+        } catch (IOException e) {
+            closeQuietly(inputStream);
+            throw new RuntimeException("Failed to read test data: " + fileName, e);
+        }
+    }
+
+    private static MappingIterator<JsonNode> open(String fileName, InputStream inputStream) throws IOException {
+        String name = fileName.toLowerCase();
+        if (name.endsWith(".csv")) {
+            return csvMapper.readerFor(JsonNode.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(inputStream);
+        }
+        if (name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            // A top-level array is unwrapped; otherwise root-level values are read one after another
+            return objectMapper.readerFor(JsonNode.class).readValues(inputStream);
+        }
+        throw new IllegalArgumentException("Unsupported test data format: " + fileName);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !closed) {
+            if (!records.hasNext()) {
+                close();
+                break;
+            }
+            JsonNode record = records.next();
+            if (!matches(record)) {
+                continue;
+            }
+            if (matched++ % shardCount != shardIndex) {
+                continue;
+            }
+            try {
+                next = toRow.apply(objectMapper.treeToValue(record, type));
+            } catch (IOException e) {
+                close();
+                throw new RuntimeException("Invalid record in " + fileName + ": " + record, e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object[] row = next;
+        next = null;
+        returned++;
+        return row;
+    }
+
+    private boolean matches(JsonNode record) {
+        for (Map.Entry<String, Pattern> condition : filter.entrySet()) {
+            JsonNode value = record.get(condition.getKey());
+            if (value == null || !condition.getValue().matcher(value.asText()).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeQuietly(records);
+        logger.info("Streamed {} of {} matching rows from {}", returned, matched, fileName);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.debug("Failed to close test data stream: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Pattern> parseFilter(String filter) {
+        Map<String, Pattern> conditions = new LinkedHashMap<>();
+        if (filter == null) {
+            return conditions;
+        }
+        for (String condition : FILTER_SEPARATOR.split(filter)) {
+            int separator = condition.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid data.filter condition (expected field=regex): " + condition);
+            }
+            conditions.put(condition.substring(0, separator).trim(), Pattern.compile(condition.substring(separator + 1).trim()));
+        }
+        return conditions;
+    }
+
+    private static int[] parseShard(String shard) {
+        if (shard == null) {
+            return new int[]{0, 1};
+        }
+        String[] parts = shard.split("/");
+        try {
+            int index = Integer.parseInt(parts[0].trim());
+            int count = Integer.parseInt(parts[1].trim());
+            if (parts.length == 2 && count > 0 && index >= 1 && index <= count) {
+                return new int[]{index - 1, count};
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid data.shard (expected index/count, e.g. 1/4): " + shard);
+    }
+}
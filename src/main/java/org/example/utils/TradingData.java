@@ -0,0 +1,18 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Expected spot trading content, bound from testdata/trading-data.json
+ */
+public record TradingData(@JsonProperty("expected_spot_header") String expectedSpotHeader,
+                          @JsonProperty("trading_pair") String tradingPair,
+                          @JsonProperty("expected_categories") List<String> expectedCategories) {
+    public static final String FILE = "trading-data.json";
+
+    public TradingData {
+        expectedCategories = expectedCategories != null ? List.copyOf(expectedCategories) : List.of();
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.utils;
+
+/**
+ * One trading pair to look up in the spot trading table, and the category tab it is listed under,
+ * streamed from testdata/trading-pairs.csv
+ */
+public record TradingPairCase(String pair, String category) {
+    public static final String FILE = "trading-pairs.csv";
+}
@@ -0,0 +1,61 @@
+package org.example.utils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expected content of the Why MultiBank page, bound from testdata/why-multibank-data.json
+ */
+public record WhyMultiBankData(String menuText, String urlContains, Banners banners, Map<String, Section> sections,
+                               Advantages advantages, SpotTrading spotTrading, Section rwa, Section startTrading) {
+    public static final String FILE = "why-multibank-data.json";
+
+    public WhyMultiBankData {
+        sections = sections != null ? Map.copyOf(sections) : Map.of();
+    }
+
+    /**
+     * Get a content section by its key in the "sections" object
+     */
+    public Section section(String name) {
+        Section section = sections.get(name);
+        if (section == null) {
+            throw new IllegalArgumentException("No section '" + name + "' in " + FILE);
+        }
+        return section;
+    }
+
+    /**
+     * The rotating header banners; any one of them may be active
+     */
+    public record Banners(String title1, String description1, String title2, String description2,
+                          String title3, String description3) {
+
+        public List<String> titles() {
+            return List.of(title1, title2, title3);
+        }
+
+        public List<String> descriptions() {
+            return List.of(description1, description2, description3);
+        }
+    }
+
+    public record Section(String title, String description, String buttonText) {
+    }
+
+    public record Advantages(String title, String subtitle, List<AdvantageItem> items) {
+        public Advantages {
+            items = items != null ? List.copyOf(items) : List.of();
+        }
+    }
+
+    public record AdvantageItem(String title, String description) {
+    }
+
+    public record SpotTrading(String title, String subtitle, String description, List<String> features,
+                              String buttonText) {
+        public SpotTrading {
+            features = features != null ? List.copyOf(features) : List.of();
+        }
+    }
+}
@@ -3,30 +3,60 @@ package tests;
 import io.qameta.allure.Allure;
 import org.example.config.ConfigReader;
 import org.example.driver.DriverFactory;
+import org.example.driver.ResourceBlocker;
+import org.example.utils.ArtifactWriter;
 import org.example.utils.ScreenshotUtil;
-import org.openqa.selenium.Dimension;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.ITestResult;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
-import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BaseTest {
-    protected WebDriver driver;
     protected static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
 
+    // Shared page fixtures kept between tests, by class@browser and thread, so @AfterClass releases every thread's
+    private static final Map<String, Map<Thread, PageFixture>> sharedFixtures = new ConcurrentHashMap<>();
+    // Shared page fixture currently loaded in this thread's driver, if any
+    private static final ThreadLocal<PageFixture> sharedFixture = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> fixtureReused = ThreadLocal.withInitial(() -> false);
+
     @BeforeMethod(alwaysRun = true)
     @Parameters({"browser"})
-    public void setUp(@Optional("") String browser) {
+    public void setUp(@Optional("") String browser, Method method) {
         String browserToUse = getBrowserParam(browser);
+        String fixtureKey = getFixtureKey(browserToUse);
+        boolean readOnly = isReadOnly(method);
+
+        PageFixture fixture = sharedFixture.get();
+        if (readOnly && fixture != null && fixture.key.equals(fixtureKey) && !fixture.isReleased()
+                && getDriver() == fixture.driver) {
+            logger.info("Reusing shared page fixture for {}", getClass().getSimpleName());
+            fixtureReused.set(true);
+            applyResourceProfile();
+            return;
+        }
+        // A fixture left by another class is not reusable here
+        releaseThreadDriver();
+        fixtureReused.set(false);
+
         logger.info("Setting up test with browser: {}", browserToUse);
-        driver = DriverFactory.initializeDriver(browserToUse);
-        driver.manage().window().setSize(new Dimension(1920, 1080));
+        WebDriver driver = DriverFactory.initializeDriver(browserToUse);
+        applyResourceProfile();
+        if (readOnly) {
+            fixture = new PageFixture(fixtureKey, driver);
+            sharedFixture.set(fixture);
+            sharedFixtures.computeIfAbsent(fixtureKey, k -> new ConcurrentHashMap<>()).put(Thread.currentThread(), fixture);
+        }
     }
 
     @AfterMethod(alwaysRun = true)
@@ -34,11 +64,93 @@ public class BaseTest {
         if (result.getStatus() == ITestResult.FAILURE) {
             handleTestFailure(result);
         }
-        DriverFactory.quitDriver();
+        if (sharedFixture.get() != null && result.getStatus() == ITestResult.SUCCESS) {
+            // Keep the loaded page for the next read-only test of this class
+            return;
+        }
+        releaseThreadDriver();
+    }
+
+    /**
+     * Release the page fixtures kept by every thread that ran this class, not only the calling thread's
+     */
+    @AfterClass(alwaysRun = true)
+    @Parameters({"browser"})
+    public void releaseSharedFixtures(@Optional("") String browser) {
+        Map<Thread, PageFixture> fixtures = sharedFixtures.remove(getFixtureKey(getBrowserParam(browser)));
+        if (fixtures == null) {
+            return;
+        }
+        for (PageFixture fixture : fixtures.values()) {
+            if (fixture.claim()) {
+                DriverFactory.releaseDriver(fixture.driver);
+            }
+        }
     }
 
+    /**
+     * True when the page loaded by a previous read-only test is being reused,
+     * so page setup in subclasses can be skipped
+     */
+    protected boolean isPageFixtureReused() {
+        return fixtureReused.get();
+    }
+
+    /**
+     * Driver bound to the current test thread; safe when methods of one class run in parallel
+     */
+    protected WebDriver getDriver() {
+        return DriverFactory.getDriver();
+    }
+
+    /**
+     * Base URL of the site under test; "fixture" serves local page snapshots instead of the live site
+     */
     protected String getBaseUrl() {
-        return ConfigReader.getConfig().getApplication().getBaseUrl();
+        return isFixtureRun() ? FixtureServer.getInstance().getBaseUrl() : ConfigReader.getBaseUrl();
+    }
+
+    /**
+     * Whether tests run against the local page fixtures (-Pfixture) instead of the live site
+     */
+    protected boolean isFixtureRun() {
+        return ConfigReader.isFixtureRun();
+    }
+
+    private String getFixtureKey(String browser) {
+        return getClass().getName() + "@" + browser;
+    }
+
+    /**
+     * Release this thread's driver unless @AfterClass already released it as a shared fixture
+     */
+    private void releaseThreadDriver() {
+        PageFixture fixture = sharedFixture.get();
+        sharedFixture.remove();
+        if (fixture == null) {
+            DriverFactory.releaseDriver();
+            return;
+        }
+        Map<Thread, PageFixture> fixtures = sharedFixtures.get(fixture.key);
+        if (fixtures != null) {
+            fixtures.remove(Thread.currentThread(), fixture);
+        }
+        if (fixture.claim()) {
+            DriverFactory.releaseDriver();
+        } else {
+            DriverFactory.detachDriver();
+        }
+    }
+
+    private void applyResourceProfile() {
+        BlockResources blockResources = getClass().getAnnotation(BlockResources.class);
+        ResourceBlocker.apply(getDriver(), ResourceBlocker.resolveProfile(
+                blockResources != null ? blockResources.value() : null));
+    }
+
+    private boolean isReadOnly(Method method) {
+        return method.isAnnotationPresent(ReadOnlyPage.class)
+                || method.getDeclaringClass().isAnnotationPresent(ReadOnlyPage.class);
     }
 
     private String getBrowserParam(String browser) {
@@ -50,17 +162,16 @@ public class BaseTest {
     private void handleTestFailure(ITestResult result) {
         logger.error("Test failed: {}", result.getName());
 
-        if (driver != null) {
+        if (getDriver() != null) {
             attachScreenshot(result.getName());
             attachErrorDetails(result.getThrowable());
         }
     }
 
     private void attachScreenshot(String testName) {
-        byte[] screenshot = ScreenshotUtil.takeScreenshotAsBytes(driver);
-        Allure.addAttachment("Failure Screenshot", "image/png",
-                new ByteArrayInputStream(screenshot), "png");
-        ScreenshotUtil.takeScreenshot(driver, testName);
+        // Only taking the screenshot needs the driver; writing it to Allure and disk happens off-thread
+        byte[] screenshot = ScreenshotUtil.takeScreenshotAsBytes(getDriver());
+        ArtifactWriter.submitScreenshot("Failure Screenshot", screenshot, testName);
     }
 
     private void attachErrorDetails(Throwable throwable) {
@@ -68,4 +179,27 @@ public class BaseTest {
             Allure.addAttachment("Error Details", throwable.getMessage());
         }
     }
+
+    /**
+     * Page loaded by a read-only test and kept in its thread's driver; released exactly once,
+     * by its thread or by @AfterClass, whichever claims it first
+     */
+    private static final class PageFixture {
+        private final String key;
+        private final WebDriver driver;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PageFixture(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+
+        private boolean claim() {
+            return released.compareAndSet(false, true);
+        }
+
+        private boolean isReleased() {
+            return released.get();
+        }
+    }
 }
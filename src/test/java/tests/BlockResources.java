@@ -0,0 +1,17 @@
+package tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the resource blocking profile from test-config.yaml used while the tests
+ * of a class run, e.g. "minimal" for text-only assertions. Classes without it use
+ * the configured default profile.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface BlockResources {
+    String value();
+}
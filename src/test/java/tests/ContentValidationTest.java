@@ -13,17 +13,21 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Test suite for Content Validation scenarios
  * Validates the presence and correctness of marketing banners and download links
  */
+// Banners and store badges are images that must keep their size to count as displayed
+@BlockResources("no-tracking")
 @Epic("MultiBank Trading Platform")
 @Feature("Content Validation")
 public class ContentValidationTest extends BaseTest {
 
-    private HomePage homePage;
     private Map<String, Object> testData;
 
     @BeforeMethod
     public void setupHomePage() {
-        homePage = new HomePage(driver);
-        homePage.open(getBaseUrl());
+        homePage().open(getBaseUrl());
+    }
+
+    private HomePage homePage() {
+        return new HomePage(getDriver());
     }
 
     @Test(priority = 1, description = "Verify marketing banners appear at page bottom")
@@ -31,6 +35,7 @@ public class ContentValidationTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that marketing banners are displayed at the bottom of the page")
     public void verifyMarketingBannersDisplayed() {
+        HomePage homePage = homePage();
         boolean isDisplayed = homePage.areMarketingBannersDisplayed();
         assertThat(isDisplayed)
                 .as("Marketing banners should be displayed at page bottom")
@@ -47,6 +52,7 @@ public class ContentValidationTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that the download section is present at the page bottom")
     public void verifyDownloadSectionDisplayed() {
+        HomePage homePage = homePage();
         boolean isDisplayed = homePage.isDownloadSectionDisplayed();
         assertThat(isDisplayed)
                 .as("Download section should be displayed")
@@ -60,6 +66,7 @@ public class ContentValidationTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that App Store download link is present and points to Apple App Store")
     public void verifyAppStoreLinkPresentAndValid() {
+        HomePage homePage = homePage();
         boolean isPresent = homePage.isAppStoreLinkPresent();
         assertThat(isPresent)
                 .as("App Store link should be present")
@@ -83,6 +90,7 @@ public class ContentValidationTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that Google Play download link is present and points to Play Store")
     public void verifyGooglePlayLinkPresentAndValid() {
+        HomePage homePage = homePage();
         boolean isPresent = homePage.isGooglePlayLinkPresent();
         assertThat(isPresent)
                 .as("Google Play link should be present")
@@ -0,0 +1,116 @@
+package tests;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server serving recorded page snapshots from src/test/resources/fixtures,
+ * so the suite can run hermetically without reaching the live site.
+ * Started once per JVM on an ephemeral loopback port.
+ */
+public final class FixtureServer {
+    private static final Logger logger = LoggerFactory.getLogger(FixtureServer.class);
+
+    private static final String FIXTURE_ROOT = "fixtures";
+    private static final Map<String, String> ROUTES = Map.of(
+            "/", "home.html",
+            "/en-AE/why-multibank", "why-multibank.html"
+    );
+
+    private static volatile FixtureServer instance;
+
+    private final HttpServer server;
+    private final Map<String, Optional<byte[]>> content = new ConcurrentHashMap<>();
+
+    private FixtureServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0)));
+        logger.info("Fixture server started at {}", getBaseUrl());
+    }
+
+    /**
+     * Get the running fixture server, starting it on first use
+     */
+    public static FixtureServer getInstance() {
+        if (instance == null) {
+            synchronized (FixtureServer.class) {
+                if (instance == null) {
+                    try {
+                        instance = new FixtureServer();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to start fixture server", e);
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String resource = ROUTES.getOrDefault(path, path.substring(1));
+        Optional<byte[]> body = content.computeIfAbsent(resource, FixtureServer::load);
+
+        try (exchange) {
+            if (body.isEmpty() || !"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(body.isEmpty() ? 404 : 405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentType(resource));
+            exchange.sendResponseHeaders(200, body.get().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body.get());
+            }
+        }
+    }
+
+    private static Optional<byte[]> load(String resource) {
+        if (resource.isEmpty() || resource.contains("..")) {
+            return Optional.empty();
+        }
+        try (InputStream in = FixtureServer.class.getClassLoader()
+                .getResourceAsStream(FIXTURE_ROOT + "/" + resource)) {
+            return in != null ? Optional.of(in.readAllBytes()) : Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Failed to read fixture {}: {}", resource, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String contentType(String resource) {
+        if (resource.endsWith(".css")) {
+            return "text/css; charset=UTF-8";
+        } else if (resource.endsWith(".js")) {
+            return "application/javascript; charset=UTF-8";
+        } else if (resource.endsWith(".svg")) {
+            return "image/svg+xml";
+        } else if (resource.endsWith(".png")) {
+            return "image/png";
+        }
+        return "text/html; charset=UTF-8";
+    }
+}
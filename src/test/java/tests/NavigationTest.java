@@ -2,11 +2,14 @@ package tests;
 
 import io.qameta.allure.*;
 import org.example.pages.HomePage;
+import org.example.pages.TextPresence;
+import org.example.utils.NavigationData;
 import org.example.utils.TestDataManager;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,19 +22,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Feature("Navigation and Layout")
 public class NavigationTest extends BaseTest {
 
-    private HomePage homePage;
-    private Map<String, Object> testData;
+    private NavigationData testData;
 
     @BeforeClass
     public void loadTestData() {
-        this.testData = TestDataManager.loadTestData("navigation-data.json");
+        this.testData = TestDataManager.load(NavigationData.FILE, NavigationData.class);
     }
 
     @BeforeMethod
     @Step("Initialize home page")
     public void setupHomePage() {
-        homePage = new HomePage(driver);
-        homePage.open(getBaseUrl());
+        homePage().open(getBaseUrl());
+    }
+
+    private HomePage homePage() {
+        return new HomePage(getDriver());
     }
 
     @Test(priority = 1, description = "Verify top navigation menu displays correctly with all expected options")
@@ -39,34 +44,35 @@ public class NavigationTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that the top navigation menu is displayed with all expected options")
     public void verifyTopNavigationDisplayed() {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> menu = (Map<String, Object>) testData.get("expected_navigation_items");
+        HomePage homePage = homePage();
         assertThat(homePage.isTopNavigationDisplayed())
                 .as("Top navigation should be displayed")
                 .isTrue();
-        String dashboardMenu = (String) menu.get("dashboard");
-        String marketsMenu = (String) menu.get("markets");
-        String tradeMenu = (String) menu.get("trade");
-        String featuresMenu = (String) menu.get("features");
-        String aboutUsMenu = (String) menu.get("about_us");
-        String supportMenu = (String) menu.get("support");
+        String dashboardMenu = testData.item("dashboard");
+        String marketsMenu = testData.item("markets");
+        String tradeMenu = testData.item("trade");
+        String featuresMenu = testData.item("features");
+        String aboutUsMenu = testData.item("about_us");
+        String supportMenu = testData.item("support");
 
-        assertThat(homePage.isTextDisplayed(dashboardMenu))
+        Map<String, TextPresence> menuTexts = homePage.findTexts(
+                List.of(dashboardMenu, marketsMenu, tradeMenu, featuresMenu, aboutUsMenu, supportMenu));
+        assertThat(menuTexts.get(dashboardMenu).displayed())
                 .as("Dashboard menu item should be displayed in the top navigation")
                 .isTrue();
-        assertThat(homePage.isTextDisplayed(marketsMenu))
+        assertThat(menuTexts.get(marketsMenu).displayed())
                 .as("Markets menu item should be displayed in the top navigation")
                 .isTrue();
-        assertThat(homePage.isTextDisplayed(tradeMenu))
+        assertThat(menuTexts.get(tradeMenu).displayed())
                 .as("Trade menu item should be displayed in the top navigation")
                 .isTrue();
-        assertThat(homePage.isTextDisplayed(featuresMenu))
+        assertThat(menuTexts.get(featuresMenu).displayed())
                 .as("Features menu item should be displayed in the top navigation")
                 .isTrue();
-        assertThat(homePage.isTextDisplayed(aboutUsMenu))
+        assertThat(menuTexts.get(aboutUsMenu).displayed())
                 .as("About Us menu item should be displayed in the top navigation")
                 .isTrue();
-        assertThat(homePage.isTextDisplayed(supportMenu))
+        assertThat(menuTexts.get(supportMenu).displayed())
                 .as("Support menu item should be displayed in the top navigation")
                 .isTrue();
         logger.info("Top navigation menu is displayed with all expected options");
@@ -77,13 +83,10 @@ public class NavigationTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that navigation items are functional and can be interacted with")
     public void verifyNavigationItemsFunctional() {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> menu = (Map<String, Object>) testData.get("expected_navigation_items");
-
+        HomePage homePage = homePage();
         logger.info("Verifying navigation items are functional");
 
-        menu.values().forEach(linkTextObj -> {
-            String linkText = (String) linkTextObj;
+        testData.expectedNavigationItems().values().forEach(linkText -> {
             boolean isFunctional = homePage.isNavigationLinkFunctional(linkText);
             assertThat(isFunctional)
                     .as("Navigation item '%s' should be functional and clickable", linkText)
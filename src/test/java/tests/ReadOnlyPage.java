@@ -0,0 +1,16 @@
+package tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks tests that only read page state. Consecutive read-only tests of the same class
+ * on the same thread share one loaded page instead of reopening it; the page is loaded
+ * fresh again after any test that does not pass.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ReadOnlyPage {
+}
@@ -0,0 +1,206 @@
+package tests;
+
+import io.qameta.allure.*;
+import org.example.utils.CodePointCounter;
+import org.example.utils.CodePointFileCounter;
+import org.example.utils.StringCharFrequency;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StringCharFrequency; no browser is needed
+ */
+@Epic("Utilities")
+@Feature("String Character Frequency")
+public class StringCharFrequencyTest {
+    private static final String EMOJI = "\uD83D\uDE00";
+
+    private Path file;
+    private ForkJoinPool pool;
+
+    @BeforeClass
+    public void createFileAndPool() throws IOException {
+        file = Files.createTempFile("char-frequency", ".txt");
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteFileAndPool() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Test(description = "Verify counts are listed in order of first appearance")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyFirstAppearanceOrder() {
+        assertThat(StringCharFrequency.countCharFrequency("aA@@b  #c!"))
+                .isEqualTo("a:1, A:1, @:2, b:1,  :2, #:1, c:1, !:1");
+        assertThat(StringCharFrequency.countCharFrequency("")).isEmpty();
+    }
+
+    @Test(description = "Verify BMP input gives the same output as the previous map-based implementation")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyBmpOutputUnchanged() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(300);
+            while (input.length() < length) {
+                char c = (char) (random.nextBoolean() ? 0x20 + random.nextInt(95) : random.nextInt(0x10000));
+                if (!Character.isSurrogate(c)) {
+                    input.append(c);
+                }
+            }
+            assertThat(StringCharFrequency.countCharFrequency(input.toString()))
+                    .as("Output for input #%d", i)
+                    .isEqualTo(previousImplementation(input.toString()));
+        }
+    }
+
+    @Test(description = "Verify a surrogate pair is counted as one code point")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifySurrogatePairCountedOnce() {
+        assertThat(StringCharFrequency.countCharFrequency("a" + EMOJI + "b" + EMOJI))
+                .isEqualTo("a:1, " + EMOJI + ":2, b:1");
+    }
+
+    @Test(description = "Verify unpaired surrogates are counted as they are")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyUnpairedSurrogatesKept() {
+        assertThat(StringCharFrequency.countCharFrequency("\uD83Dx\uDE00\uD83D"))
+                .isEqualTo("\uD83D:2, x:1, \uDE00:1");
+    }
+
+    @Test(description = "Verify writing to an Appendable gives the same output as the String result")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyAppendableOutput() throws IOException {
+        String input = "h\u00E9llo " + EMOJI + " w\u00F6rld " + EMOJI + " \u4E16\u754C";
+        StringWriter writer = new StringWriter();
+        StringCharFrequency.countCharFrequency(input, writer);
+        assertThat(writer.toString()).isEqualTo(StringCharFrequency.countCharFrequency(input));
+    }
+
+    @Test(description = "Verify UTF-8 files counted in parallel chunks match decoding them to a String")
+    @Severity(SeverityLevel.CRITICAL)
+    public void verifyFileModeMatchesStringDecoding() throws IOException {
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            byte[] bytes = randomText(random).getBytes(StandardCharsets.UTF_8);
+            boolean corrupted = i % 2 == 1;
+            if (corrupted) {
+                for (int j = 0; j < 5 && bytes.length > 0; j++) {
+                    bytes[random.nextInt(bytes.length)] = (byte) random.nextInt(256);
+                }
+            }
+            // Chunks of a few bytes put boundaries inside most multi-byte sequences
+            assertFileModeMatches(bytes, 4 + random.nextInt(37), (corrupted ? "corrupted" : "valid") + " input #" + i);
+        }
+    }
+
+    @Test(description = "Verify malformed UTF-8 is counted as U+FFFD where the JDK decoder puts it")
+    @Severity(SeverityLevel.NORMAL)
+    public void verifyMalformedUtf8Replacement() throws IOException {
+        int[][] inputs = {
+                {0xED, 0xA0, 0x80},             // encoded surrogate: one replacement
+                {0xE2, 0x82, 0x41},             // truncated sequence followed by ASCII
+                {0xC0, 0xAF, 0x41},             // overlong encoding
+                {0xF4, 0x90, 0x80, 0x80},       // above U+10FFFF
+                {0x41, 0xF0, 0x9F, 0x98},       // truncated at end of input
+                {0x80, 0x80, 0x80, 0x80, 0x41}  // run of continuation bytes across a chunk boundary
+        };
+        for (int[] input : inputs) {
+            byte[] bytes = new byte[input.length];
+            for (int i = 0; i < input.length; i++) {
+                bytes[i] = (byte) input[i];
+            }
+            assertFileModeMatches(bytes, 4, "input " + Arrays.toString(input));
+        }
+    }
+
+    @Test(description = "Verify an empty file has no counts")
+    @Severity(SeverityLevel.MINOR)
+    public void verifyEmptyFile() throws IOException {
+        Files.write(file, new byte[0]);
+        StringBuilder out = new StringBuilder();
+        StringCharFrequency.countCharFrequency(file, out);
+        assertThat(out.toString()).isEmpty();
+    }
+
+    private void assertFileModeMatches(byte[] bytes, int chunkBytes, String description) throws IOException {
+        String expected = StringCharFrequency.countCharFrequency(new String(bytes, StandardCharsets.UTF_8));
+
+        CodePointCounter sequential = new CodePointCounter();
+        sequential.addUtf8(ByteBuffer.wrap(bytes), 0);
+        StringBuilder sequentialOut = new StringBuilder();
+        sequential.appendTo(sequentialOut);
+        assertThat(sequentialOut.toString()).as("Sequential UTF-8 count of %s", description).isEqualTo(expected);
+
+        Files.write(file, bytes);
+        StringBuilder parallelOut = new StringBuilder();
+        try (FileChannel channel = FileChannel.open(file)) {
+            CodePointFileCounter.count(channel, chunkBytes, pool).appendTo(parallelOut);
+        }
+        assertThat(parallelOut.toString())
+                .as("Count of %s in %d byte chunks", description, chunkBytes)
+                .isEqualTo(expected);
+    }
+
+    /**
+     * Up to 200 code points mixing ASCII, Latin, CJK and emoji, with a few letters repeated often
+     */
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(200);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    text.appendCodePoint(0x20 + random.nextInt(95));
+                    break;
+                case 1:
+                    text.appendCodePoint(0xC0 + random.nextInt(0x200));
+                    break;
+                case 2:
+                    text.appendCodePoint(0x4E00 + random.nextInt(50));
+                    break;
+                case 3:
+                    text.appendCodePoint(0x1F300 + random.nextInt(40));
+                    break;
+                default:
+                    text.appendCodePoint('a' + random.nextInt(3));
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * The LinkedHashMap&lt;Character, Integer&gt; implementation the counter replaced
+     */
+    private static String previousImplementation(String input) {
+        Map<Character, Integer> freqMap = new LinkedHashMap<>();
+        for (char c : input.toCharArray()) {
+            freqMap.put(c, freqMap.getOrDefault(c, 0) + 1);
+        }
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<Character, Integer> entry : freqMap.entrySet()) {
+            if (result.length() > 0) result.append(", ");
+            result.append(entry.getKey()).append(":").append(entry.getValue());
+        }
+        return result.toString();
+    }
+}
@@ -3,6 +3,9 @@ package tests;
 import io.qameta.allure.*;
 import org.example.pages.HomePage;
 import org.example.utils.TestDataManager;
+import org.example.utils.TestDataProvider;
+import org.example.utils.TradingData;
+import org.example.utils.TradingPairCase;
 import org.openqa.selenium.WebElement;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -22,8 +25,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Feature("Trading Functionality")
 public class TradingTest extends BaseTest {
 
-    private HomePage homePage;
-    private Map<String, Object> testData;
     private List<String> expectedCategories;
     private String expectedSpotHeader;
     private String tradingPair;
@@ -31,19 +32,20 @@ public class TradingTest extends BaseTest {
     @BeforeClass
     @Step("Load trading test data from JSON configuration")
     public void loadTestData() {
-        testData = TestDataManager.loadTestData("trading-data.json");
-        @SuppressWarnings("unchecked")
-        List<String> categories = (List<String>) testData.get("expected_categories");
-        expectedCategories = categories;
-        this.expectedSpotHeader = testData.get("expected_spot_header").toString();
-        this.tradingPair = testData.get("trading_pair").toString();
+        TradingData testData = TestDataManager.load(TradingData.FILE, TradingData.class);
+        expectedCategories = testData.expectedCategories();
+        this.expectedSpotHeader = testData.expectedSpotHeader();
+        this.tradingPair = testData.tradingPair();
     }
 
     @BeforeMethod
     @Step("Initialize home page and navigate to trading platform")
     public void setupHomePage() {
-        homePage = new HomePage(driver);
-        homePage.open(getBaseUrl());
+        homePage().open(getBaseUrl());
+    }
+
+    private HomePage homePage() {
+        return new HomePage(getDriver());
     }
 
     @Test(priority = 1, description = "Verify spot trading section is displayed on the home page")
@@ -51,6 +53,7 @@ public class TradingTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that the spot trading section is visible and accessible on the trading platform home page")
     public void verifySpotTradingSectionDisplayed() {
+        HomePage homePage = homePage();
         assertThat(homePage.isSpotTradingSectionDisplayed())
                 .as("Spot trading section should be visible on the home page")
                 .isTrue();
@@ -64,6 +67,7 @@ public class TradingTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that trading pairs are properly organized into distinct categories and that clicking each category displays corresponding trading pairs")
     public void verifyTradingCategories() {
+        HomePage homePage = homePage();
         List<WebElement> categories = homePage.getTradingCategories();
 
         assertThat(categories)
@@ -72,11 +76,7 @@ public class TradingTest extends BaseTest {
 
         logger.info("Found {} visible trading categories", categories.size());
 
-        // Categories that require dropdown: last 3 in the list
-        List<String> dropdownCategories = expectedCategories.subList(
-                Math.max(0, expectedCategories.size() - 3),
-                expectedCategories.size()
-        );
+        List<String> dropdownCategories = getDropdownCategories();
 
         StringBuilder categoryResults = new StringBuilder();
         int categoriesWithPairs = 0;
@@ -123,6 +123,7 @@ public class TradingTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates that trading pair BTC-AED has correct data structure with all column values displayed: Pair, Price, 24h Change, High, Low, Last 7 days")
     public void verifyTradingPairStructure() {
+        HomePage homePage = homePage();
         logger.info("Searching for trading pair: {}", tradingPair);
         Map<String, String> pairData = homePage.getTradingPairData(tradingPair);
         assertThat(pairData)
@@ -168,4 +169,33 @@ public class TradingTest extends BaseTest {
         }
         logger.info(" Trading pair structure verification passed - All columns validated for {}", tradingPair);
     }
-}
\ No newline at end of file
+
+    @Test(priority = 4, dataProvider = "tradingPairsData", dataProviderClass = TestDataProvider.class,
+            description = "Verify trading pair {0} is listed under its category")
+    @Story("Trading Pair Data Structure")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Data-driven: for each pair streamed from trading-pairs.csv, open its category and verify the pair row has name and price")
+    public void verifyTradingPairInCategory(TradingPairCase tradingPairCase) {
+        HomePage homePage = homePage();
+        if (getDropdownCategories().contains(tradingPairCase.category())) {
+            homePage.clickTradingCategoryDropdown();
+        }
+        homePage.clickTradingCategoryById(tradingPairCase.category());
+
+        Map<String, String> pairData = homePage.getTradingPairData(tradingPairCase.pair());
+        assertThat(pairData.get("pair"))
+                .as("Pair '%s' should be listed under category '%s'", tradingPairCase.pair(), tradingPairCase.category())
+                .isEqualTo(tradingPairCase.pair());
+        assertThat(pairData.get("price"))
+                .as("Price of '%s' should be displayed", tradingPairCase.pair())
+                .isNotNull()
+                .matches(".*\\d+.*");
+    }
+
+    /**
+     * Categories that require the dropdown: last 3 in the list
+     */
+    private List<String> getDropdownCategories() {
+        return expectedCategories.subList(Math.max(0, expectedCategories.size() - 3), expectedCategories.size());
+    }
+}
@@ -2,39 +2,51 @@ package tests;
 
 import io.qameta.allure.*;
 import org.example.pages.HomePage;
+import org.example.pages.TextPresence;
 import org.example.pages.WhyMultiBankPage;
 import org.example.utils.TestDataManager;
 import org.example.utils.TestDataProvider;
+import org.example.utils.WhyMultiBankData;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Why MultiBank Test Suite
- * Verifies all expected text content from why-multibank-data.json
+ * Verifies all expected text content from why-multibank-data.json.
+ * All checks are read-only, so the page is loaded once and shared between tests.
  */
+@ReadOnlyPage
+@BlockResources("minimal")
 @Epic("MultiBank Trading Platform")
 @Feature("About Us - Why MultiBank")
 public class WhyMultiBankTest extends BaseTest {
 
-    private Map<String, Object> testData;
-    private WhyMultiBankPage whyMultiBankPage;
+    private WhyMultiBankData testData;
 
 
     @BeforeMethod
     public void setup() {
-        HomePage homePage = new HomePage(driver);
+        if (isPageFixtureReused()) {
+            return;
+        }
+        HomePage homePage = new HomePage(getDriver());
         homePage.open(getBaseUrl());
-        whyMultiBankPage = homePage.navigateToWhyMultiBankLink();
+        homePage.navigateToWhyMultiBankLink();
+    }
+
+    private WhyMultiBankPage whyMultiBankPage() {
+        return new WhyMultiBankPage(getDriver());
     }
 
     @BeforeClass
     public void loadTestData() {
-        testData = TestDataManager.loadTestData("why-multibank-data.json");
+        testData = TestDataManager.load(WhyMultiBankData.FILE, WhyMultiBankData.class);
     }
 
     @Test(priority = 1, description = "Navigate to Why MultiBank page")
@@ -42,6 +54,7 @@ public class WhyMultiBankTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify navigation to Why MultiBank page from About Us section")
     public void navigateToWhyMultiBankPage() {
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
         boolean isLoaded = whyMultiBankPage.isPageLoaded();
         assertThat(isLoaded)
                 .as("Why MultiBank page should be loaded")
@@ -56,14 +69,8 @@ public class WhyMultiBankTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that Header Banners displays title and button text from JSON")
     public void verifyHeaderBanners() {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> banners = (Map<String, Object>) testData.get("banners");
-        String expectedBanner1Title = (String) banners.get("title1");
-        String expectedBanner2Title = (String) banners.get("title2");
-        String expectedBanner3Title = (String) banners.get("title3");
-        String expectedBanner1Description = (String) banners.get("description1");
-        String expectedBanner2Description = (String) banners.get("description2");
-        String expectedBanner3Description = (String) banners.get("description3");
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
+        WhyMultiBankData.Banners banners = testData.banners();
 
         String actualBannerTitle = whyMultiBankPage.getActiveBannerTitle();
         String actualBannerDescription = whyMultiBankPage.getActiveBannerDescription();
@@ -71,10 +78,10 @@ public class WhyMultiBankTest extends BaseTest {
         // Verify banner
         assertThat(actualBannerTitle)
                 .as("Active banner should match either banners in expectd data")
-                .isIn(expectedBanner1Title, expectedBanner2Title, expectedBanner3Title);
+                .isIn(banners.titles());
         assertThat(actualBannerDescription)
                 .as("Active banner should match either banners in expectd data")
-                .isIn(expectedBanner1Description, expectedBanner2Description, expectedBanner3Description);
+                .isIn(banners.descriptions());
 
         logger.info("Header banner verified successfully");
     }
@@ -84,17 +91,17 @@ public class WhyMultiBankTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify portfolio section title and description match expected values from JSON")
     public void verifyPortfolioSection() {
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
         boolean isLoaded = whyMultiBankPage.isPageLoaded();
         assertThat(isLoaded)
                 .as("Why MultiBank page should be loaded")
                 .isTrue();
 
-        @SuppressWarnings("unchecked")
-        Map<String, String> portfolioData = (Map<String, String>) ((Map<String, Object>) testData.get("sections")).get("portfolio");
+        WhyMultiBankData.Section portfolioData = testData.section("portfolio");
 
-        String expectedTitle = portfolioData.get("title");
-        String expectedDescription = portfolioData.get("description");
-        String expectedButtonText = portfolioData.get("buttonText");
+        String expectedTitle = portfolioData.title();
+        String expectedDescription = portfolioData.description();
+        String expectedButtonText = portfolioData.buttonText();
 
         String actualTitle = whyMultiBankPage.getPortfolioTitle();
         assertThat(actualTitle)
@@ -119,27 +126,28 @@ public class WhyMultiBankTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify trading section title and descriptions match expected values from JSON")
     public void verifyTradingSections() {
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
         boolean isLoaded = whyMultiBankPage.isPageLoaded();
         assertThat(isLoaded)
                 .as("Why MultiBank page should be loaded")
                 .isTrue();
 
-        Map<String, String> tradingData = getSectionData("trading");
-        Map<String, String> tradingSpeedData = getSectionData("tradingSpeed");
-        Map<String, String> paymentMethodsData = getSectionData("paymentMethods");
-        Map<String, String> panicSellData = getSectionData("panicSell");
-        Map<String, String> convertData = getSectionData("convert");
+        WhyMultiBankData.Section tradingData = testData.section("trading");
+        WhyMultiBankData.Section tradingSpeedData = testData.section("tradingSpeed");
+        WhyMultiBankData.Section paymentMethodsData = testData.section("paymentMethods");
+        WhyMultiBankData.Section panicSellData = testData.section("panicSell");
+        WhyMultiBankData.Section convertData = testData.section("convert");
 
-        String expectedTitle = tradingData.get("title");
-        String expectedButtonText = tradingData.get("buttonText");
-        String expectedSpeedTitle = tradingSpeedData.get("title");
-        String expectedSpeedDescription = tradingSpeedData.get("description");
-        String expectedPaymentTitle = paymentMethodsData.get("title");
-        String expectedPaymentDescription = paymentMethodsData.get("description");
-        String expectedPanicTitle = panicSellData.get("title");
-        String expectedPanicDescription = panicSellData.get("description");
-        String expectedConvertTitle = convertData.get("title");
-        String expectedConvertDescription = convertData.get("description");
+        String expectedTitle = tradingData.title();
+        String expectedButtonText = tradingData.buttonText();
+        String expectedSpeedTitle = tradingSpeedData.title();
+        String expectedSpeedDescription = tradingSpeedData.description();
+        String expectedPaymentTitle = paymentMethodsData.title();
+        String expectedPaymentDescription = paymentMethodsData.description();
+        String expectedPanicTitle = panicSellData.title();
+        String expectedPanicDescription = panicSellData.description();
+        String expectedConvertTitle = convertData.title();
+        String expectedConvertDescription = convertData.description();
 
 
         String actualTitle = whyMultiBankPage.getTradingTitle();
@@ -185,20 +193,15 @@ public class WhyMultiBankTest extends BaseTest {
         logger.info("Trading section verified - Title and Button match expected values");
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, String> getSectionData(String sectionName) {
-        return (Map<String, String>) ((Map<String, Object>) testData.get("sections")).get(sectionName);
-    }
-
     @Test(priority = 5, description = "Verify advantages section header")
     @Story("Advantages Section")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify advantages section title, subtitle, and all advantage items match JSON data")
     public void verifyAdvantages() {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> advantages = (Map<String, Object>) testData.get("advantages");
-        String expectedTitle = (String) advantages.get("title");
-        String expectedSubtitle = (String) advantages.get("subtitle");
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
+        WhyMultiBankData.Advantages advantages = testData.advantages();
+        String expectedTitle = advantages.title();
+        String expectedSubtitle = advantages.subtitle();
 
         // Verify title
         String actualTitle = whyMultiBankPage.getAdvantagesTitle();
@@ -218,9 +221,10 @@ public class WhyMultiBankTest extends BaseTest {
     @Story("Advantages Items")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Parameterized test: Verify each advantage item title and description from JSON")
-    public void verifyAdvantageItem(int itemIndex, Map<String, String> itemData) {
-        String expectedTitle = itemData.get("title");
-        String expectedDescription = itemData.get("description");
+    public void verifyAdvantageItem(int itemIndex, WhyMultiBankData.AdvantageItem itemData) {
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
+        String expectedTitle = itemData.title();
+        String expectedDescription = itemData.description();
 
         String actualTitle = "";
         String actualDescription = "";
@@ -267,42 +271,44 @@ public class WhyMultiBankTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that Spot Trading and RWA section displays title, subtitle, description and button text from JSON")
     public void verifySpotTrading() {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> spotTrading = (Map<String, Object>) testData.get("spotTrading");
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
+        WhyMultiBankData.SpotTrading spotTrading = testData.spotTrading();
+
+        String expectedTitle = spotTrading.title();
+        String expectedSubtitle = spotTrading.subtitle();
+        String expectedDescription = spotTrading.description();
+        String expectedButtonText = spotTrading.buttonText();
 
-        String expectedTitle = (String) spotTrading.get("title");
-        String expectedSubtitle = (String) spotTrading.get("subtitle");
-        String expectedDescription = (String) spotTrading.get("description");
-        String expectedButtonText = (String) spotTrading.get("buttonText");
+        WhyMultiBankData.Section rwa = testData.rwa();
+        String expectedRWATitle = rwa.title();
+        String expectedRWADescription = rwa.description();
+        String expectedRWAButtonText = rwa.buttonText();
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> rwa = (Map<String, Object>) testData.get("rwa");
-        String expectedRWATitle = (String) rwa.get("title");
-        String expectedRWADescription = (String) rwa.get("description");
-        String expectedRWAButtonText = (String) rwa.get("buttonText");
+        Map<String, TextPresence> texts = whyMultiBankPage.findTexts(List.of(expectedTitle, expectedSubtitle,
+                expectedDescription, expectedButtonText, expectedRWATitle, expectedRWADescription, expectedRWAButtonText));
 
         // Verify Spot Trading Section
-        assertThat(whyMultiBankPage.isTextDisplayed(expectedTitle))
+        assertThat(texts.get(expectedTitle).displayed())
                 .as("Spot Trading title should be displayed")
                 .isTrue();
-        assertThat(whyMultiBankPage.isTextDisplayed(expectedSubtitle))
+        assertThat(texts.get(expectedSubtitle).displayed())
                 .as("Spot Trading subtitle should be displayed")
                 .isTrue();
-        assertThat(whyMultiBankPage.isTextDisplayed(expectedDescription))
+        assertThat(texts.get(expectedDescription).displayed())
                 .as("Spot Trading description should be displayed")
                 .isTrue();
-        assertThat(whyMultiBankPage.isTextDisplayed(expectedButtonText))
+        assertThat(texts.get(expectedButtonText).displayed())
                 .as("Spot Trading button should be displayed")
                 .isTrue();
 
         //Verify RWA Section
-        assertThat(whyMultiBankPage.isTextDisplayed(expectedRWATitle))
+        assertThat(texts.get(expectedRWATitle).displayed())
                 .as("RWA title should be displayed")
                 .isTrue();
-        assertThat(whyMultiBankPage.isTextDisplayed(expectedRWADescription))
+        assertThat(texts.get(expectedRWADescription).displayed())
                 .as("RWA description should be displayed")
                 .isTrue();
-        assertThat(whyMultiBankPage.isTextDisplayed(expectedRWAButtonText))
+        assertThat(texts.get(expectedRWAButtonText).displayed())
                 .as("RWA button text should be displayed")
                 .isTrue();
 
@@ -315,6 +321,7 @@ public class WhyMultiBankTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Parameterized test: Verify each spot trading feature from JSON")
     public void verifySpotTradingFeature(int featureNumber, String feature) {
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
         assertThat(whyMultiBankPage.isTextDisplayed(feature))
                 .as("Spot Trading feature %d should be displayed: '%s'", featureNumber, feature)
                 .isTrue();
@@ -327,12 +334,12 @@ public class WhyMultiBankTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that Start Trading section displays title and button text from JSON")
     public void verifyStartTradingSection() {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> startTrading = (Map<String, Object>) testData.get("startTrading");
+        WhyMultiBankPage whyMultiBankPage = whyMultiBankPage();
+        WhyMultiBankData.Section startTrading = testData.startTrading();
 
-        String expectedTitle = (String) startTrading.get("title");
-        String expectedDescription = (String) startTrading.get("description");
-        String expectedButtonText = (String) startTrading.get("buttonText");
+        String expectedTitle = startTrading.title();
+        String expectedDescription = startTrading.description();
+        String expectedButtonText = startTrading.buttonText();
 
         String actualDescription = whyMultiBankPage.getStartTradingDescription();
 